@@ -0,0 +1,47 @@
+package com.graph.graphservice.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code concurrency} workers, each sending its next request only after the previous one completed
+ * (plus optional think time). Throughput is an outcome of the run, not an input.
+ */
+@RequiredArgsConstructor
+public class ClosedLoopDriver implements LoadDriver {
+  private final Workload workload;
+  private final int concurrency;
+  private final Duration thinkTime;
+  private final long seed;
+
+  @Override
+  public void run(long endNanos) throws InterruptedException {
+    List<Thread> workers = new ArrayList<>(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      Random random = new Random(seed + i);
+      workers.add(Thread.ofVirtual()
+          .name("closed-loop-" + i)
+          .start(() -> loop(random, endNanos)));
+    }
+
+    for (Thread worker : workers) {
+      worker.join();
+    }
+  }
+
+  private void loop(Random random, long endNanos) {
+    while (System.nanoTime() < endNanos) {
+      Workload.Request request = workload.nextRequest(random);
+      workload.fire(request, System.nanoTime()).join();
+
+      if (!thinkTime.isZero()) {
+        LockSupport.parkNanos(thinkTime.toNanos());
+      }
+    }
+  }
+}
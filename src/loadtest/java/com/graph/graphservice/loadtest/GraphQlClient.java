@@ -0,0 +1,83 @@
+package com.graph.graphservice.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class GraphQlClient {
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final URI endpoint;
+  private final Duration requestTimeout;
+
+  public record Outcome(boolean success, int status, String error) {
+  }
+
+  public GraphQlClient(URI endpoint, Duration requestTimeout, Executor executor, ObjectMapper objectMapper) {
+    this.endpoint = endpoint;
+    this.requestTimeout = requestTimeout;
+    this.objectMapper = objectMapper;
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(executor)
+        .build();
+  }
+
+  public CompletableFuture<Outcome> send(String document, Map<String, Object> variables) {
+    HttpRequest request;
+    try {
+      request = buildRequest(document, variables);
+    } catch (IOException e) {
+      return CompletableFuture.completedFuture(new Outcome(false, 0, e.getMessage()));
+    }
+
+    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .thenApply(this::toOutcome)
+        .exceptionally(e -> new Outcome(false, 0, e.getClass().getSimpleName() + ": " + e.getMessage()));
+  }
+
+  public JsonNode execute(String document, Map<String, Object> variables) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = httpClient.send(buildRequest(document, variables),
+        HttpResponse.BodyHandlers.ofByteArray());
+    JsonNode body = objectMapper.readTree(response.body());
+    if (response.statusCode() != 200 || body.hasNonNull("errors")) {
+      throw new IOException("GraphQL request failed (" + response.statusCode() + "): " + body.path("errors"));
+    }
+    return body.path("data");
+  }
+
+  private HttpRequest buildRequest(String document, Map<String, Object> variables) throws IOException {
+    byte[] payload = objectMapper.writeValueAsBytes(Map.of("query", document, "variables", variables));
+    return HttpRequest.newBuilder(endpoint)
+        .timeout(requestTimeout)
+        .header("Content-Type", "application/json")
+        .header("Accept", "application/graphql-response+json, application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+        .build();
+  }
+
+  private Outcome toOutcome(HttpResponse<byte[]> response) {
+    if (response.statusCode() != 200) {
+      return new Outcome(false, response.statusCode(), "HTTP " + response.statusCode());
+    }
+    try {
+      JsonNode errors = objectMapper.readTree(response.body()).path("errors");
+      if (errors.isArray() && !errors.isEmpty()) {
+        return new Outcome(false, response.statusCode(), errors.get(0).path("message").asText());
+      }
+      return new Outcome(true, response.statusCode(), null);
+    } catch (IOException e) {
+      return new Outcome(false, response.statusCode(), "Unreadable response: " + e.getMessage());
+    }
+  }
+}
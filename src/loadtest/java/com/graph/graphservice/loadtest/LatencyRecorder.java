@@ -0,0 +1,71 @@
+package com.graph.graphservice.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms. Samples whose intended start lies outside the measurement window
+ * are warmup (or drain) traffic and are discarded.
+ */
+public class LatencyRecorder {
+  private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+  private final long measureFromNanos;
+  private final long measureToNanos;
+
+  public static final class OperationStats {
+    final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    final LongAdder errors = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+    final Map<String, LongAdder> errorMessages = new ConcurrentHashMap<>();
+  }
+
+  public LatencyRecorder(long measureFromNanos, long measureToNanos) {
+    this.measureFromNanos = measureFromNanos;
+    this.measureToNanos = measureToNanos;
+  }
+
+  public long measuredNanos() {
+    return measureToNanos - measureFromNanos;
+  }
+
+  /**
+   * @param intendedStartNanos when the request should have been sent; for open-loop runs this is the
+   *                           schedule slot, which keeps queueing delay in the numbers
+   */
+  public void record(String operation, long intendedStartNanos, long endNanos, GraphQlClient.Outcome outcome) {
+    if (intendedStartNanos < measureFromNanos || intendedStartNanos >= measureToNanos) {
+      return;
+    }
+
+    OperationStats operationStats = stats(operation);
+    operationStats.histogram.recordValue(Math.min(endNanos - intendedStartNanos, HIGHEST_TRACKABLE_NANOS));
+    if (!outcome.success()) {
+      operationStats.errors.increment();
+      String message = outcome.error() != null ? outcome.error() : "HTTP " + outcome.status();
+      operationStats.errorMessages.computeIfAbsent(message, k -> new LongAdder()).increment();
+    }
+  }
+
+  public void recordDropped(String operation, long intendedStartNanos) {
+    if (intendedStartNanos >= measureFromNanos && intendedStartNanos < measureToNanos) {
+      stats(operation).dropped.increment();
+    }
+  }
+
+  public Map<String, OperationStats> snapshot() {
+    return new TreeMap<>(stats);
+  }
+
+  private OperationStats stats(String operation) {
+    return stats.computeIfAbsent(operation, k -> new OperationStats());
+  }
+}
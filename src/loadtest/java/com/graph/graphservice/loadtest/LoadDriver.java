@@ -0,0 +1,9 @@
+package com.graph.graphservice.loadtest;
+
+public interface LoadDriver {
+  /**
+   * Generates load until {@code endNanos} (on the {@link System#nanoTime()} clock) and waits for the
+   * requests it started.
+   */
+  void run(long endNanos) throws InterruptedException;
+}
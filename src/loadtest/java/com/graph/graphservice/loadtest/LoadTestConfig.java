@@ -0,0 +1,117 @@
+package com.graph.graphservice.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+public record LoadTestConfig(
+    URI baseUrl,
+    LoadMode mode,
+    int concurrency,
+    double rate,
+    int maxInFlight,
+    Duration warmup,
+    Duration duration,
+    Duration thinkTime,
+    Duration requestTimeout,
+    Map<String, Integer> mix,
+    List<String> contractIds,
+    int contractIdSample,
+    long seed,
+    String label,
+    Path report
+) {
+  public static final String PREFIX = "loadtest.";
+  private static final String DEFAULTS = "loadtest/loadtest.properties";
+  private static final String MIX_PREFIX = PREFIX + "mix.";
+
+  public enum LoadMode {
+    /**
+     * Fixed number of workers, each sends the next request once the previous one completed.
+     */
+    CLOSED,
+    /**
+     * Requests are fired at a fixed arrival rate, independent of response times.
+     */
+    OPEN
+  }
+
+  /**
+   * Defaults from the classpath, then the file given by {@code -Dloadtest.config}, then
+   * {@code -Dloadtest.*} system properties.
+   */
+  public static LoadTestConfig load() throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = LoadTestConfig.class.getClassLoader().getResourceAsStream(DEFAULTS)) {
+      if (in == null) {
+        throw new IllegalStateException("Missing " + DEFAULTS + " on classpath");
+      }
+      properties.load(in);
+    }
+
+    String configFile = System.getProperty(PREFIX + "config");
+    if (configFile != null && !configFile.isBlank()) {
+      try (Reader reader = Files.newBufferedReader(Path.of(configFile))) {
+        properties.load(reader);
+      }
+    }
+
+    System.getProperties().stringPropertyNames().stream()
+        .filter(key -> key.startsWith(PREFIX))
+        .forEach(key -> properties.setProperty(key, System.getProperty(key)));
+
+    return from(properties);
+  }
+
+  static LoadTestConfig from(Properties properties) {
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    properties.stringPropertyNames().stream()
+        .filter(key -> key.startsWith(MIX_PREFIX))
+        .sorted()
+        .forEach(key -> {
+          int weight = Integer.parseInt(properties.getProperty(key).trim());
+          if (weight > 0) {
+            mix.put(key.substring(MIX_PREFIX.length()), weight);
+          }
+        });
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("At least one " + MIX_PREFIX + "<operation> weight must be > 0");
+    }
+
+    List<String> contractIds = Arrays.stream(get(properties, "contract-ids", "").split(","))
+        .map(String::trim)
+        .filter(id -> !id.isEmpty())
+        .toList();
+
+    return new LoadTestConfig(
+        URI.create(get(properties, "base-url", "http://localhost:9010/graphql")),
+        LoadMode.valueOf(get(properties, "mode", "CLOSED").trim().toUpperCase()),
+        Integer.parseInt(get(properties, "concurrency", "16")),
+        Double.parseDouble(get(properties, "rate", "100")),
+        Integer.parseInt(get(properties, "max-in-flight", "1024")),
+        Duration.parse(get(properties, "warmup", "PT10S")),
+        Duration.parse(get(properties, "duration", "PT60S")),
+        Duration.parse(get(properties, "think-time", "PT0S")),
+        Duration.parse(get(properties, "request-timeout", "PT30S")),
+        mix,
+        contractIds,
+        Integer.parseInt(get(properties, "contract-id-sample", "1000")),
+        Long.parseLong(get(properties, "seed", "42")),
+        get(properties, "label", ""),
+        Path.of(get(properties, "report", "target/loadtest/report.json"))
+    );
+  }
+
+  private static String get(Properties properties, String key, String defaultValue) {
+    return properties.getProperty(PREFIX + key, defaultValue);
+  }
+}
@@ -0,0 +1,124 @@
+package com.graph.graphservice.loadtest;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+
+public record LoadTestReport(
+    String label,
+    Instant startedAt,
+    String baseUrl,
+    LoadTestConfig.LoadMode mode,
+    int concurrency,
+    Double targetRate,
+    double durationSeconds,
+    Map<String, Integer> mix,
+    OperationReport total,
+    Map<String, OperationReport> operations
+) {
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  public record OperationReport(
+      long count,
+      long errors,
+      long dropped,
+      double throughputPerSecond,
+      Latency latencyMs,
+      Map<String, Long> errorMessages,
+      String encodedHistogram
+  ) {
+  }
+
+  public record Latency(
+      double mean,
+      double p50,
+      double p90,
+      double p95,
+      double p99,
+      double p999,
+      double max
+  ) {
+  }
+
+  public static LoadTestReport of(LoadTestConfig config,
+                                  Instant startedAt,
+                                  long measuredNanos,
+                                  Map<String, LatencyRecorder.OperationStats> stats) {
+    double seconds = measuredNanos / 1_000_000_000.0;
+
+    Histogram totalHistogram = new Histogram(3);
+    long totalErrors = 0;
+    long totalDropped = 0;
+    Map<String, Long> totalMessages = new TreeMap<>();
+    Map<String, OperationReport> operations = new TreeMap<>();
+
+    for (Map.Entry<String, LatencyRecorder.OperationStats> entry : stats.entrySet()) {
+      LatencyRecorder.OperationStats operationStats = entry.getValue();
+      Histogram histogram = operationStats.histogram.copy();
+      Map<String, Long> messages = toCounts(operationStats.errorMessages);
+
+      totalHistogram.add(histogram);
+      totalErrors += operationStats.errors.sum();
+      totalDropped += operationStats.dropped.sum();
+      messages.forEach((message, count) -> totalMessages.merge(message, count, Long::sum));
+
+      operations.put(entry.getKey(), operationReport(histogram, operationStats.errors.sum(),
+          operationStats.dropped.sum(), messages, seconds));
+    }
+
+    return new LoadTestReport(
+        config.label(),
+        startedAt,
+        config.baseUrl().toString(),
+        config.mode(),
+        config.concurrency(),
+        config.mode() == LoadTestConfig.LoadMode.OPEN ? config.rate() : null,
+        seconds,
+        new TreeMap<>(config.mix()),
+        operationReport(totalHistogram, totalErrors, totalDropped, totalMessages, seconds),
+        operations
+    );
+  }
+
+  private static OperationReport operationReport(Histogram histogram,
+                                                 long errors,
+                                                 long dropped,
+                                                 Map<String, Long> errorMessages,
+                                                 double seconds) {
+    long count = histogram.getTotalCount();
+    Latency latency = new Latency(
+        histogram.getMean() / NANOS_PER_MILLI,
+        histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+        histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+        histogram.getValueAtPercentile(95) / NANOS_PER_MILLI,
+        histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+        histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+        histogram.getMaxValue() / NANOS_PER_MILLI
+    );
+    return new OperationReport(count, errors, dropped, seconds > 0 ? count / seconds : 0, latency,
+        errorMessages, encode(histogram));
+  }
+
+  /**
+   * Compressed, base64 encoded histogram so runs can be merged or re-plotted without losing precision.
+   */
+  private static String encode(Histogram histogram) {
+    ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+    int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+    byte[] bytes = new byte[length];
+    buffer.flip();
+    buffer.get(bytes);
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  private static Map<String, Long> toCounts(Map<String, LongAdder> adders) {
+    Map<String, Long> counts = new TreeMap<>();
+    adders.forEach((key, adder) -> counts.put(key, adder.sum()));
+    return counts;
+  }
+}
@@ -0,0 +1,53 @@
+package com.graph.graphservice.loadtest;
+
+import java.io.File;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prints the per-operation change between two reports:
+ * ./mvnw -Pload-test compile exec:java -Dloadtest.mainClass=com.graph.graphservice.loadtest.LoadTestReportComparison
+ * -Dexec.args="baseline.json candidate.json"
+ */
+public class LoadTestReportComparison {
+  private static final String[] LATENCY_KEYS = {"p50", "p90", "p99", "p999", "max"};
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 2) {
+      System.err.println("Usage: LoadTestReportComparison <baseline.json> <candidate.json>");
+      System.exit(2);
+    }
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    JsonNode baseline = objectMapper.readTree(new File(args[0]));
+    JsonNode candidate = objectMapper.readTree(new File(args[1]));
+
+    System.out.printf("%-40s %-12s %12s %12s %9s%n", "operation", "metric", "baseline", "candidate", "change");
+
+    TreeSet<String> operations = new TreeSet<>();
+    baseline.path("operations").fieldNames().forEachRemaining(operations::add);
+    candidate.path("operations").fieldNames().forEachRemaining(operations::add);
+    operations.forEach(operation -> print(operation,
+        baseline.path("operations").path(operation), candidate.path("operations").path(operation)));
+    print("TOTAL", baseline.path("total"), candidate.path("total"));
+  }
+
+  private static void print(String operation, JsonNode baseline, JsonNode candidate) {
+    row(operation, "req/s", baseline.path("throughputPerSecond"), candidate.path("throughputPerSecond"));
+    row(operation, "errors", baseline.path("errors"), candidate.path("errors"));
+    for (String key : LATENCY_KEYS) {
+      row(operation, key + " ms", baseline.path("latencyMs").path(key), candidate.path("latencyMs").path(key));
+    }
+  }
+
+  private static void row(String operation, String metric, JsonNode baseline, JsonNode candidate) {
+    double before = baseline.asDouble(Double.NaN);
+    double after = candidate.asDouble(Double.NaN);
+    String change = before > 0 && !Double.isNaN(after)
+        ? String.format("%+8.1f%%", (after - before) / before * 100)
+        : "n/a";
+    System.out.printf("%-40s %-12s %12.2f %12.2f %9s%n", operation, metric, before, after, change);
+  }
+}
@@ -0,0 +1,117 @@
+package com.graph.graphservice.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadTestRunner {
+  // contract_summary üzerinden keyset sayfalama; getAllContracts büyük veri setinde deadline'a takılır
+  private static final String CONTRACT_IDS_QUERY =
+      "query($after: ID, $first: Int) { contractSummaries(after: $after, first: $first) { contractId } }";
+  private static final int CONTRACT_IDS_PAGE_SIZE = 1_000;
+  // Örneklem ilk sayfalara sıkışmasın diye örneklemin bu katı kadar id taranıp karıştırılıyor
+  private static final int CONTRACT_IDS_SCAN_FACTOR = 10;
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.load();
+    ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      GraphQlClient client = new GraphQlClient(config.baseUrl(), config.requestTimeout(), executor, objectMapper);
+      OperationMix mix = OperationMix.load(config.mix());
+      List<String> contractIds = mix.requiresContractIds() ? contractIds(config, client) : List.of();
+
+      long measureFrom = System.nanoTime() + config.warmup().toNanos();
+      long end = measureFrom + config.duration().toNanos();
+      LatencyRecorder recorder = new LatencyRecorder(measureFrom, end);
+      Workload workload = new Workload(mix, contractIds, client, recorder);
+      LoadDriver driver = switch (config.mode()) {
+        case CLOSED -> new ClosedLoopDriver(workload, config.concurrency(), config.thinkTime(), config.seed());
+        case OPEN -> new OpenLoopDriver(workload, config.rate(), config.maxInFlight(), config.seed());
+      };
+
+      log.info("Starting {} loop run against {} (warmup {}, duration {}, mix {})",
+          config.mode(), config.baseUrl(), config.warmup(), config.duration(), config.mix());
+
+      Instant startedAt = Instant.now();
+      driver.run(end);
+
+      LoadTestReport report = LoadTestReport.of(config, startedAt, recorder.measuredNanos(), recorder.snapshot());
+      write(objectMapper, report, config.report());
+      logSummary(report);
+    }
+  }
+
+  private static List<String> contractIds(LoadTestConfig config, GraphQlClient client) throws Exception {
+    if (!config.contractIds().isEmpty()) {
+      return config.contractIds();
+    }
+
+    long limit = (long) config.contractIdSample() * CONTRACT_IDS_SCAN_FACTOR;
+    List<String> ids = new ArrayList<>();
+    String after = null;
+    while (ids.size() < limit) {
+      Map<String, Object> variables = new HashMap<>();
+      variables.put("after", after);
+      variables.put("first", CONTRACT_IDS_PAGE_SIZE);
+      JsonNode page = client.execute(CONTRACT_IDS_QUERY, variables).path("contractSummaries");
+      page.forEach(summary -> ids.add(summary.path("contractId").asText()));
+      if (page.size() < CONTRACT_IDS_PAGE_SIZE) {
+        break;
+      }
+      after = ids.get(ids.size() - 1);
+    }
+    if (ids.isEmpty()) {
+      throw new IllegalStateException("No contracts found at " + config.baseUrl() + ", seed some data first");
+    }
+
+    Collections.sort(ids);
+    Collections.shuffle(ids, new Random(config.seed()));
+    List<String> sample = ids.subList(0, Math.min(config.contractIdSample(), ids.size()));
+    log.info("Discovered {} contracts, using {} of them", ids.size(), sample.size());
+    return List.copyOf(sample);
+  }
+
+  private static void write(ObjectMapper objectMapper, LoadTestReport report, Path path) throws Exception {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    objectMapper.writeValue(path.toFile(), report);
+    log.info("Report written to {}", path.toAbsolutePath());
+  }
+
+  private static void logSummary(LoadTestReport report) {
+    log.info("=== Load Test Summary ({} s) ===", String.format("%.1f", report.durationSeconds()));
+    report.operations().forEach((name, operation) -> log.info(
+        "{}: {} req, {} errors, {} dropped, {} req/s, p50 {} ms, p99 {} ms, max {} ms",
+        name, operation.count(), operation.errors(), operation.dropped(),
+        String.format("%.1f", operation.throughputPerSecond()),
+        String.format("%.2f", operation.latencyMs().p50()),
+        String.format("%.2f", operation.latencyMs().p99()),
+        String.format("%.2f", operation.latencyMs().max())));
+    LoadTestReport.OperationReport total = report.total();
+    log.info("TOTAL: {} req, {} errors, {} req/s, p99 {} ms",
+        total.count(), total.errors(), String.format("%.1f", total.throughputPerSecond()),
+        String.format("%.2f", total.latencyMs().p99()));
+  }
+}
@@ -0,0 +1,52 @@
+package com.graph.graphservice.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fires requests on a fixed schedule of {@code rate} per second, whether or not earlier requests
+ * completed. Latency is measured from the scheduled slot, so a stalled server shows up as latency
+ * instead of silently lowering the offered load (no coordinated omission).
+ */
+@RequiredArgsConstructor
+public class OpenLoopDriver implements LoadDriver {
+  private final Workload workload;
+  private final double rate;
+  private final int maxInFlight;
+  private final long seed;
+
+  @Override
+  public void run(long endNanos) throws InterruptedException {
+    Random random = new Random(seed);
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    long intervalNanos = (long) (1_000_000_000L / rate);
+    long startNanos = System.nanoTime();
+
+    for (long slot = 0; ; slot++) {
+      long intendedStart = startNanos + slot * intervalNanos;
+      if (intendedStart >= endNanos) {
+        break;
+      }
+
+      long wait = intendedStart - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+
+      Workload.Request request = workload.nextRequest(random);
+      if (!inFlight.tryAcquire()) {
+        workload.dropped(request, intendedStart);
+        continue;
+      }
+
+      workload.fire(request, intendedStart)
+          .whenComplete((ignored, error) -> inFlight.release());
+    }
+
+    // Outstanding requests still belong to the measured window
+    inFlight.acquire(maxInFlight);
+  }
+}
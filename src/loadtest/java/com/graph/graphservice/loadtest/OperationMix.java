@@ -0,0 +1,71 @@
+package com.graph.graphservice.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class OperationMix {
+  private static final String OPERATIONS_PATH = "loadtest/operations/";
+
+  private final List<Operation> operations;
+  private final int[] cumulativeWeights;
+  private final int totalWeight;
+
+  public record Operation(String name, String document, int weight) {
+    public boolean requiresContractId() {
+      return document.contains("$contractId");
+    }
+  }
+
+  public OperationMix(List<Operation> operations) {
+    this.operations = List.copyOf(operations);
+    this.cumulativeWeights = new int[operations.size()];
+
+    int sum = 0;
+    for (int i = 0; i < operations.size(); i++) {
+      sum += operations.get(i).weight();
+      cumulativeWeights[i] = sum;
+    }
+    this.totalWeight = sum;
+  }
+
+  public static OperationMix load(Map<String, Integer> weights) throws IOException {
+    List<Operation> operations = new ArrayList<>();
+    for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+      operations.add(new Operation(entry.getKey(), readDocument(entry.getKey()), entry.getValue()));
+    }
+    return new OperationMix(operations);
+  }
+
+  public Operation next(Random random) {
+    int point = random.nextInt(totalWeight);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (point < cumulativeWeights[i]) {
+        return operations.get(i);
+      }
+    }
+    return operations.getLast();
+  }
+
+  public List<Operation> operations() {
+    return operations;
+  }
+
+  public boolean requiresContractIds() {
+    return operations.stream().anyMatch(Operation::requiresContractId);
+  }
+
+  private static String readDocument(String name) throws IOException {
+    String path = OPERATIONS_PATH + name + ".graphql";
+    try (InputStream in = OperationMix.class.getClassLoader().getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Unknown operation '" + name + "', expected " + path);
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
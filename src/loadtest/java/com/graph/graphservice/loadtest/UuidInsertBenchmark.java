@@ -0,0 +1,162 @@
+package com.graph.graphservice.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.graph.graphservice.utils.UuidV7;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inserts the same number of rows into two copies of a parent/child table pair, once keyed by random
+ * v4 UUIDs and once by {@link UuidV7}, and compares insert throughput and index sizes. The child table
+ * mirrors {@code layer}: a UUID primary key plus an indexed UUID foreign key.
+ *
+ * <pre>
+ * ./mvnw -Pload-test compile exec:java -Dloadtest.mainClass=com.graph.graphservice.loadtest.UuidInsertBenchmark \
+ *   -Dbenchmark.rows=2000000
+ * </pre>
+ */
+@Slf4j
+public class UuidInsertBenchmark {
+  private static final String SCHEMA = "uuid_benchmark";
+
+  record Result(
+      String generator,
+      long rows,
+      double seconds,
+      double rowsPerSecond,
+      long parentPkIndexBytes,
+      long childPkIndexBytes,
+      long childFkIndexBytes,
+      long tableBytes
+  ) {
+  }
+
+  public static void main(String[] args) throws Exception {
+    String url = System.getProperty("benchmark.url", "jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true");
+    String user = System.getProperty("benchmark.user", "multiservice");
+    String password = System.getProperty("benchmark.password", "123456");
+    long rows = Long.getLong("benchmark.rows", 1_000_000);
+    int childrenPerParent = Integer.getInteger("benchmark.children-per-parent", 4);
+    int batchSize = Integer.getInteger("benchmark.batch-size", 1_000);
+    Path report = Path.of(System.getProperty("benchmark.report", "target/loadtest/uuid-benchmark.json"));
+
+    List<Result> results = new ArrayList<>();
+    try (Connection connection = DriverManager.getConnection(url, user, password)) {
+      connection.setAutoCommit(false);
+      results.add(run(connection, "v4", UUID::randomUUID, rows, childrenPerParent, batchSize));
+      results.add(run(connection, "v7", UuidV7::next, rows, childrenPerParent, batchSize));
+      execute(connection, "DROP SCHEMA " + SCHEMA + " CASCADE");
+      connection.commit();
+    }
+
+    Map<String, Object> output = new LinkedHashMap<>();
+    output.put("rows", rows);
+    output.put("childrenPerParent", childrenPerParent);
+    output.put("batchSize", batchSize);
+    output.put("results", results);
+
+    Files.createDirectories(report.toAbsolutePath().getParent());
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), output);
+    results.forEach(result -> log.info("{}", result));
+    log.info("Report written to {}", report.toAbsolutePath());
+  }
+
+  private static Result run(Connection connection,
+                            String name,
+                            Supplier<UUID> ids,
+                            long rows,
+                            int childrenPerParent,
+                            int batchSize) throws Exception {
+    String parent = SCHEMA + ".parent_" + name;
+    String child = SCHEMA + ".child_" + name;
+
+    execute(connection, "CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+    execute(connection, "DROP TABLE IF EXISTS " + child + ", " + parent);
+    execute(connection, "CREATE TABLE " + parent + " (id uuid PRIMARY KEY, payload numeric(38, 2))");
+    execute(connection, "CREATE TABLE " + child + " (id uuid PRIMARY KEY, parent_id uuid NOT NULL, "
+        + "payload numeric(38, 2))");
+    execute(connection, "CREATE INDEX child_" + name + "_parent_id_idx ON " + child + " (parent_id)");
+    connection.commit();
+
+    long parents = Math.max(1, rows / (childrenPerParent + 1));
+    long inserted = 0;
+    long start = System.nanoTime();
+    try (PreparedStatement parentInsert = connection.prepareStatement("INSERT INTO " + parent + " VALUES (?, ?)");
+         PreparedStatement childInsert = connection.prepareStatement("INSERT INTO " + child + " VALUES (?, ?, ?)")) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      for (long i = 0; i < parents; i++) {
+        UUID parentId = ids.get();
+        parentInsert.setObject(1, parentId);
+        parentInsert.setBigDecimal(2, BigDecimal.valueOf(random.nextInt(1_000_000), 2));
+        parentInsert.addBatch();
+        inserted++;
+
+        for (int c = 0; c < childrenPerParent; c++) {
+          childInsert.setObject(1, ids.get());
+          childInsert.setObject(2, parentId);
+          childInsert.setBigDecimal(3, BigDecimal.valueOf(random.nextInt(1_000_000), 2));
+          childInsert.addBatch();
+          inserted++;
+        }
+
+        if ((i + 1) % batchSize == 0) {
+          parentInsert.executeBatch();
+          childInsert.executeBatch();
+          connection.commit();
+        }
+      }
+      parentInsert.executeBatch();
+      childInsert.executeBatch();
+      connection.commit();
+    }
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+    execute(connection, "ANALYZE " + parent);
+    execute(connection, "ANALYZE " + child);
+    connection.commit();
+
+    Result result = new Result(
+        name,
+        inserted,
+        seconds,
+        inserted / seconds,
+        size(connection, "pg_relation_size('" + parent + "_pkey')"),
+        size(connection, "pg_relation_size('" + child + "_pkey')"),
+        size(connection, "pg_relation_size('" + SCHEMA + ".child_" + name + "_parent_id_idx')"),
+        size(connection, "pg_table_size('" + parent + "') + pg_table_size('" + child + "')")
+    );
+    log.info("{}: {} rows in {} s", name, inserted, String.format("%.1f", seconds));
+    return result;
+  }
+
+  private static long size(Connection connection, String expression) throws Exception {
+    try (Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("SELECT " + expression)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  private static void execute(Connection connection, String sql) throws Exception {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.graph.graphservice.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class Workload {
+  private final OperationMix mix;
+  private final List<String> contractIds;
+  private final GraphQlClient client;
+  private final LatencyRecorder recorder;
+
+  public record Request(OperationMix.Operation operation, Map<String, Object> variables) {
+  }
+
+  public Request nextRequest(Random random) {
+    OperationMix.Operation operation = mix.next(random);
+    Map<String, Object> variables = operation.requiresContractId()
+        ? Map.of("contractId", contractIds.get(random.nextInt(contractIds.size())))
+        : Map.of();
+    return new Request(operation, variables);
+  }
+
+  public CompletableFuture<Void> fire(Request request, long intendedStartNanos) {
+    return client.send(request.operation().document(), request.variables())
+        .thenAccept(outcome ->
+            recorder.record(request.operation().name(), intendedStartNanos, System.nanoTime(), outcome));
+  }
+
+  public void dropped(Request request, long intendedStartNanos) {
+    recorder.recordDropped(request.operation().name(), intendedStartNanos);
+  }
+}
@@ -1,9 +1,15 @@
 package com.graph.graphservice;
 
+import com.graph.graphservice.startup.NativeRuntimeHints;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class GraphServiceApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,95 @@
+package com.graph.graphservice.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Admission control for GraphQL operations: at most {@code limit} operations run at once and the
+ * limit follows the observed latency (see {@link GradientLimit}). Requests over the limit are rejected
+ * right away instead of queueing for one of the pooled connections.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+  private final GradientLimit limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter accepted;
+  private final Counter rejected;
+  private final Counter dropped;
+
+  public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    this.limit = new GradientLimit(properties);
+    Gauge.builder("graph.concurrency.limit", limit, GradientLimit::limit)
+        .description("Current in-flight limit of GraphQL operations")
+        .register(meterRegistry);
+    Gauge.builder("graph.concurrency.in-flight", inFlight, AtomicInteger::get)
+        .description("GraphQL operations currently executing")
+        .register(meterRegistry);
+    this.accepted = Counter.builder("graph.concurrency.requests").tag("outcome", "accepted").register(meterRegistry);
+    this.rejected = Counter.builder("graph.concurrency.requests").tag("outcome", "rejected").register(meterRegistry);
+    this.dropped = Counter.builder("graph.concurrency.requests").tag("outcome", "dropped").register(meterRegistry);
+  }
+
+  /**
+   * @return a permit to release when the operation completes, or null when the request must be shed
+   */
+  public Permit tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit.limit()) {
+        rejected.increment();
+        return null;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        accepted.increment();
+        return new Permit(System.nanoTime(), current + 1);
+      }
+    }
+  }
+
+  public int limit() {
+    return limit.limit();
+  }
+
+  public final class Permit {
+    private final long startNanos;
+    private final int inFlightAtStart;
+    private boolean released;
+
+    private Permit(long startNanos, int inFlightAtStart) {
+      this.startNanos = startNanos;
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    // Gecikme limitin güncellenmesinde kullanılır
+    public void onSuccess() {
+      release(false, true);
+    }
+
+    // Deadline'a takıldı: kuyruklanma belirtisi, limit geri çekilir
+    public void onDropped() {
+      dropped.increment();
+      release(true, true);
+    }
+
+    // Örneklenmeyen sonuçlar (mutation, iptal, hata): sadece slot bırakılır
+    public void onIgnore() {
+      release(false, false);
+    }
+
+    private synchronized void release(boolean drop, boolean sample) {
+      if (released) {
+        return;
+      }
+      released = true;
+      inFlight.decrementAndGet();
+      if (sample) {
+        limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, drop);
+      }
+    }
+  }
+}
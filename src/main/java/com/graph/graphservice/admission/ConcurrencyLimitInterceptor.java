@@ -0,0 +1,111 @@
+package com.graph.graphservice.admission;
+
+import graphql.ErrorClassification;
+import graphql.ExecutionResult;
+import graphql.GraphqlErrorBuilder;
+import graphql.language.OperationDefinition;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import com.graph.graphservice.deadline.QueryDeadline;
+import com.graph.graphservice.incremental.IncrementalResults;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs before every other interceptor but the WebSocket flow control: an operation over the limit gets an
+ * {@code OVERLOADED} error marked retryable, plus a {@code Retry-After} header, without being parsed or
+ * executed. Only successful queries feed the latency samples. A query dropped by its deadline backs the
+ * limit off. A query with {@code @defer} payloads holds its permit until the last payload is sent, since
+ * its deferred fetches still take connections; its latency is not sampled.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitInterceptor implements WebGraphQlInterceptor {
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final ConcurrencyLimitProperties properties;
+
+  enum AdmissionErrorType implements ErrorClassification {
+    OVERLOADED
+  }
+
+  @Override
+  public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+    if (!properties.enabled()) {
+      return chain.next(request);
+    }
+
+    AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+    if (permit == null) {
+      return Mono.just(rejected(request));
+    }
+
+    return chain.next(request)
+        .map(response -> {
+          ExecutionResult deferred = IncrementalResults.doFinally(response.getExecutionResult(),
+              () -> releaseDeferred(permit, response));
+          if (deferred == null) {
+            release(permit, response);
+            return response;
+          }
+          WebGraphQlResponse withPermit = new WebGraphQlResponse(
+              new DefaultExecutionGraphQlResponse(response.getExecutionInput(), deferred));
+          withPermit.getResponseHeaders().putAll(response.getResponseHeaders());
+          return withPermit;
+        })
+        .doOnError(error -> permit.onIgnore())
+        .doOnCancel(permit::onIgnore);
+  }
+
+  private void release(AdaptiveConcurrencyLimiter.Permit permit, WebGraphQlResponse response) {
+    QueryDeadline deadline = response.getExecutionInput().getGraphQLContext().get(QueryDeadline.class);
+    if (deadline != null && deadline.isExceeded()) {
+      permit.onDropped();
+    } else if (deadline != null && deadline.getOperation() == OperationDefinition.Operation.QUERY
+        && response.getErrors().isEmpty()) {
+      permit.onSuccess();
+    } else {
+      permit.onIgnore();
+    }
+  }
+
+  // Akışın süresi sorgunun değil istemcinin hızına da bağlı, gecikme örneği olarak kullanılmaz
+  private void releaseDeferred(AdaptiveConcurrencyLimiter.Permit permit, WebGraphQlResponse response) {
+    QueryDeadline deadline = response.getExecutionInput().getGraphQLContext().get(QueryDeadline.class);
+    if (deadline != null && deadline.isExceeded()) {
+      permit.onDropped();
+    } else {
+      permit.onIgnore();
+    }
+  }
+
+  // data: null ile döner; istek geçerli sayılır, istemci hatayı extension'lardan tanır
+  private WebGraphQlResponse rejected(WebGraphQlRequest request) {
+    ExecutionResult result = ExecutionResult.newExecutionResult()
+        .data(null)
+        .addError(GraphqlErrorBuilder.newError()
+            .errorType(AdmissionErrorType.OVERLOADED)
+            .message("Server is at its concurrency limit, retry later")
+            .extensions(Map.of("retryable", true))
+            .build())
+        .build();
+    WebGraphQlResponse response = new WebGraphQlResponse(
+        new DefaultExecutionGraphQlResponse(request.toExecutionInput(), result));
+    response.getResponseHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+    return response;
+  }
+}
@@ -0,0 +1,29 @@
+package com.graph.graphservice.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled      admission control on /graphql; when false every request is let through
+ * @param initialLimit in-flight limit before any latency has been observed
+ * @param minLimit     the limit never drops below this, so a slow database still gets work
+ * @param maxLimit     upper bound for the limit
+ * @param tolerance    how much the short-term latency may exceed the long-term one before the limit shrinks
+ * @param smoothing    weight of a new limit estimate against the current one
+ * @param shortWindow  samples averaged into the short-term (current) latency
+ * @param longWindow   samples averaged into the long-term (no-load) latency
+ * @param backoffRatio multiplier applied to the limit when a request is dropped by its deadline
+ */
+@ConfigurationProperties(prefix = "graph.limit")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("4") int initialLimit,
+    @DefaultValue("2") int minLimit,
+    @DefaultValue("64") int maxLimit,
+    @DefaultValue("2.0") double tolerance,
+    @DefaultValue("0.2") double smoothing,
+    @DefaultValue("10") int shortWindow,
+    @DefaultValue("600") int longWindow,
+    @DefaultValue("0.9") double backoffRatio
+) {
+}
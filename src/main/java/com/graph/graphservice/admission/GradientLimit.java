@@ -0,0 +1,67 @@
+package com.graph.graphservice.admission;
+
+/**
+ * Latency-gradient limit estimate (Netflix concurrency-limits' Gradient2). A long-term moving average
+ * of the RTT stands for the latency without queueing, a short-term one (a few samples) for the current
+ * latency, so a single outlier does not move the limit. When recent requests take longer than that,
+ * requests are waiting for one of the pooled connections, and the limit shrinks in proportion.
+ * Otherwise the limit grows by a small queue allowance. A request dropped by its deadline backs off
+ * multiplicatively.
+ */
+class GradientLimit {
+  private final ConcurrencyLimitProperties properties;
+
+  private double estimatedLimit;
+  private double shortRttNanos;
+  private double longRttNanos;
+  private long samples;
+
+  GradientLimit(ConcurrencyLimitProperties properties) {
+    this.properties = properties;
+    this.estimatedLimit = properties.initialLimit();
+  }
+
+  synchronized int limit() {
+    return (int) estimatedLimit;
+  }
+
+  synchronized int onSample(long rttNanos, int inFlight, boolean dropped) {
+    if (dropped) {
+      estimatedLimit = clamp(estimatedLimit * properties.backoffRatio());
+      return limit();
+    }
+
+    // İlk shortWindow örnekte ikisi de düz ortalama; sonra üstel ortalama, uzun olan yavaş değişir ve
+    // sonradan biriken kuyruk gecikmesini yüksüz gecikme sanmaz
+    samples++;
+    shortRttNanos = average(shortRttNanos, rttNanos, properties.shortWindow());
+    longRttNanos = average(longRttNanos, rttNanos, properties.longWindow());
+
+    // Uzun ortalama kısa ortalamanın çok üstünde kaldıysa (yük kalktı) daha hızlı yakınsasın
+    if (longRttNanos / shortRttNanos > 2.0) {
+      longRttNanos *= 0.95;
+    }
+
+    // Limitin yarısı bile kullanılmıyorsa gecikme bilgisi limit hakkında bir şey söylemez
+    if (inFlight < estimatedLimit / 2) {
+      return limit();
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, properties.tolerance() * longRttNanos / shortRttNanos));
+    double queueSize = Math.sqrt(estimatedLimit);
+    double newLimit = estimatedLimit * gradient + queueSize;
+    estimatedLimit = clamp(estimatedLimit * (1 - properties.smoothing()) + newLimit * properties.smoothing());
+    return limit();
+  }
+
+  private double average(double average, double sample, int window) {
+    if (samples <= properties.shortWindow()) {
+      return average + (sample - average) / samples;
+    }
+    return average + (sample - average) * 2 / (window + 1);
+  }
+
+  private double clamp(double limit) {
+    return Math.max(properties.minLimit(), Math.min(properties.maxLimit(), limit));
+  }
+}
@@ -0,0 +1,16 @@
+package com.graph.graphservice.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxOperations operations accepted in one batched POST
+ * @param parallelism   operations of one batch executing at once; more than the connection pool size only
+ *                      adds threads waiting for a connection
+ */
+@ConfigurationProperties(prefix = "graph.batch")
+public record BatchProperties(
+    @DefaultValue("50") int maxOperations,
+    @DefaultValue("2") int parallelism
+) {
+}
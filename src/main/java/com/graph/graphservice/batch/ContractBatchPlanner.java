@@ -0,0 +1,143 @@
+package com.graph.graphservice.batch;
+
+import graphql.language.Argument;
+import graphql.language.AstPrinter;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.OperationDefinition;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the operations of a batch that can share one query: {@code getContract} as the only root field,
+ * with the same selection, fragments and variables apart from the contract id. Each such group gets a
+ * {@link ContractIdBatch}. Operations of any other form run on their own.
+ */
+@Component
+public class ContractBatchPlanner {
+  private static final String MERGEABLE_QUERY = "getContract";
+  private static final String CONTRACT_ID_ARGUMENT = "contractId";
+
+  /**
+   * @return the batch of each operation, by position; null for operations that are not merged
+   */
+  public List<ContractIdBatch> plan(List<Map<String, Object>> operations) {
+    Map<String, List<Integer>> groups = new LinkedHashMap<>();
+    List<UUID> contractIds = new ArrayList<>(Collections.nCopies(operations.size(), null));
+    for (int i = 0; i < operations.size(); i++) {
+      Mergeable mergeable = mergeable(operations.get(i));
+      if (mergeable != null) {
+        groups.computeIfAbsent(mergeable.shape(), shape -> new ArrayList<>()).add(i);
+        contractIds.set(i, mergeable.contractId());
+      }
+    }
+
+    List<ContractIdBatch> batches = new ArrayList<>(Collections.nCopies(operations.size(), null));
+    for (List<Integer> group : groups.values()) {
+      if (group.size() < 2) {
+        continue;
+      }
+      ContractIdBatch batch = new ContractIdBatch(group.stream()
+          .map(contractIds::get)
+          .distinct()
+          .toList());
+      group.forEach(index -> batches.set(index, batch));
+    }
+    return batches;
+  }
+
+  private Mergeable mergeable(Map<String, Object> request) {
+    if (!(request.get("query") instanceof String query)) {
+      return null;
+    }
+    Document document;
+    try {
+      document = Parser.parse(query);
+    } catch (InvalidSyntaxException e) {
+      return null;
+    }
+
+    OperationDefinition operation = findOperation(document, (String) request.get("operationName"));
+    if (operation == null || operation.getOperation() != OperationDefinition.Operation.QUERY
+        || operation.getSelectionSet().getSelections().size() != 1
+        || !(operation.getSelectionSet().getSelections().get(0) instanceof Field field)
+        || !MERGEABLE_QUERY.equals(field.getName())) {
+      return null;
+    }
+
+    Map<String, Object> variables = new TreeMap<>();
+    if (request.get("variables") instanceof Map<?, ?> requestVariables) {
+      requestVariables.forEach((name, value) -> variables.put(String.valueOf(name), value));
+    }
+    Argument contractIdArgument = field.getArguments().stream()
+        .filter(argument -> CONTRACT_ID_ARGUMENT.equals(argument.getName()))
+        .findFirst()
+        .orElse(null);
+    UUID contractId = contractIdArgument != null ? contractId(contractIdArgument.getValue(), variables) : null;
+    if (contractId == null) {
+      return null;
+    }
+    if (contractIdArgument.getValue() instanceof VariableReference reference) {
+      variables.remove(reference.getName());
+    }
+
+    // Alias ve id dışındaki her şey (seçim, fragment'lar, diğer değişkenler) aynı olmalı
+    Field shapeField = field.transform(builder -> builder
+        .alias(null)
+        .arguments(field.getArguments().stream()
+            .filter(argument -> !CONTRACT_ID_ARGUMENT.equals(argument.getName()))
+            .toList()));
+    String fragments = document.getDefinitions().stream()
+        .filter(FragmentDefinition.class::isInstance)
+        .map(AstPrinter::printAstCompact)
+        .sorted()
+        .collect(Collectors.joining(" "));
+    return new Mergeable(AstPrinter.printAstCompact(shapeField) + " " + fragments + " " + variables, contractId);
+  }
+
+  private OperationDefinition findOperation(Document document, String operationName) {
+    List<OperationDefinition> operations = document.getDefinitions().stream()
+        .filter(OperationDefinition.class::isInstance)
+        .map(OperationDefinition.class::cast)
+        .toList();
+    if (operationName == null) {
+      return operations.size() == 1 ? operations.get(0) : null;
+    }
+    return operations.stream()
+        .filter(operation -> operationName.equals(operation.getName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private UUID contractId(Value<?> value, Map<String, Object> variables) {
+    Object id = null;
+    if (value instanceof StringValue stringValue) {
+      id = stringValue.getValue();
+    } else if (value instanceof VariableReference reference) {
+      id = variables.get(reference.getName());
+    }
+    try {
+      return id instanceof String string ? UUID.fromString(string) : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private record Mergeable(String shape, UUID contractId) {
+  }
+}
@@ -0,0 +1,53 @@
+package com.graph.graphservice.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.graph.graphservice.dto.ContractResponse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Contract ids of the {@code getContract} operations of one batch that select the same shape. The first
+ * of them to run loads every contract of the group with one multi-id query, the others take their
+ * contract from that result instead of querying again.
+ */
+@RequiredArgsConstructor
+public class ContractIdBatch {
+  @Getter
+  private final List<UUID> contractIds;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final CompletableFuture<Map<UUID, ContractResponse>> loaded = new CompletableFuture<>();
+
+  /**
+   * @return the contract, or null when the group load failed or did not find it and the caller should
+   * load it on its own
+   */
+  public ContractResponse find(UUID contractId, Function<List<UUID>, List<ContractResponse>> loader) {
+    if (started.compareAndSet(false, true)) {
+      try {
+        loaded.complete(loader.apply(contractIds).stream()
+            .collect(Collectors.toMap(ContractResponse::id, Function.identity())));
+      } finally {
+        // Error (ör. StackOverflowError) da dahil: tamamlanmayan future'da grubun geri kalanı sonsuza kadar bekler
+        if (!loaded.isDone()) {
+          loaded.completeExceptionally(new IllegalStateException("Contract group load failed"));
+        }
+      }
+    }
+
+    try {
+      return loaded.join().get(contractId);
+    } catch (CompletionException e) {
+      // Grubu yükleyen operasyonun hatası (ör. deadline) diğerlerine taşınmasın
+      return null;
+    }
+  }
+}
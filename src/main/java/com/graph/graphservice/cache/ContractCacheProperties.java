@@ -0,0 +1,26 @@
+package com.graph.graphservice.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled           cache {@code getContract} trees; needs the {@code contract_changed} triggers (V8)
+ * @param ttl               upper bound on how long a tree is kept; changes evict it right away
+ * @param maximumTrees      trees kept over all contracts, each cached selection of a contract counts as one
+ * @param settle            a contract changed within this window is served but not cached: a load that
+ *                          started before the change, or read a replica that has not replayed it yet, may
+ *                          hold the old tree. Should exceed {@code graph.routing.max-lag} and the query timeout
+ * @param maximumSettling   changed contracts remembered for {@code settle}; beyond it nothing is cached until
+ *                          the window passes
+ */
+@ConfigurationProperties(prefix = "graph.cache")
+public record ContractCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1h") Duration ttl,
+    @DefaultValue("10000") long maximumTrees,
+    @DefaultValue("30s") Duration settle,
+    @DefaultValue("100000") long maximumSettling
+) {
+}
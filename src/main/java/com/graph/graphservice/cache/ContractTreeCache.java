@@ -0,0 +1,128 @@
+package com.graph.graphservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.graph.graphservice.change.ContractChange;
+import com.graph.graphservice.change.ContractChangeConsumer;
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.fetch.FetchShapes;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contract trees by contract id and selection shape, shared by all requests of this instance. Selections
+ * that differ only in field order or aliases share a tree. The cache is bounded by the number of trees,
+ * not contracts, since one contract can be cached under many shapes. Entries live up to {@code ttl} but
+ * are evicted as soon as any instance changes the contract, through the {@code contract_changed}
+ * notifications. While the subscription is down nothing is read from or written to the cache, and it is
+ * flushed when the subscription comes back, since changes in between were missed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "graph.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ContractTreeCache implements ContractChangeConsumer {
+  private final ContractCacheProperties properties;
+  // Değer kopyalanarak güncellenir, ağırlık (seçim sayısı) her yazmada yeniden hesaplanır
+  private final Cache<UUID, Map<String, ContractResponse>> trees;
+  private final Cache<UUID, Boolean> settling;
+  private final Counter changeInvalidations;
+  private final Counter flushes;
+  private volatile boolean listening;
+  private volatile long settledAtNanos = System.nanoTime();
+
+  public ContractTreeCache(ContractCacheProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.trees = Caffeine.newBuilder()
+        .maximumWeight(properties.maximumTrees())
+        .weigher((UUID contractId, Map<String, ContractResponse> selections) -> selections.size())
+        // Yeni seçim eklemek contract'ın diğer ağaçlarının ömrünü uzatmaz
+        .expireAfter(Expiry.creating((UUID contractId, Map<String, ContractResponse> selections) ->
+            properties.ttl()))
+        .recordStats()
+        .build();
+    this.settling = Caffeine.newBuilder()
+        .maximumSize(properties.maximumSettling())
+        .expireAfterWrite(properties.settle())
+        .removalListener((UUID contractId, Boolean value, RemovalCause cause) -> {
+          // Hatırlanamayan bir değişiklik varsa pencere boyunca hiçbir şey cache'lenmez
+          if (cause == RemovalCause.SIZE) {
+            unsettle();
+          }
+        })
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, trees, "contract-trees");
+    this.changeInvalidations = Counter.builder("graph.cache.contract.invalidations")
+        .tag("cause", "change")
+        .register(meterRegistry);
+    this.flushes = Counter.builder("graph.cache.contract.invalidations")
+        .tag("cause", "resubscribe")
+        .register(meterRegistry);
+  }
+
+  public ContractResponse get(UUID contractId, FieldNode selection, Supplier<ContractResponse> loader) {
+    if (!listening) {
+      return loader.get();
+    }
+    String shape = FetchShapes.shapeOf(selection);
+    Map<String, ContractResponse> selections = trees.getIfPresent(contractId);
+    ContractResponse cached = selections != null ? selections.get(shape) : null;
+    if (cached != null) {
+      return cached;
+    }
+
+    ContractResponse contract = loader.get();
+    if (contract != null && isCacheable(contractId)) {
+      trees.asMap().compute(contractId, (id, current) -> {
+        Map<String, ContractResponse> updated = current != null ? new HashMap<>(current) : new HashMap<>();
+        updated.put(shape, contract);
+        return Map.copyOf(updated);
+      });
+      // Yükleme ile yazma arasında gelen bir değişiklik önce işaretlenip sonra silindiği için tekrar bakılır
+      if (!isCacheable(contractId)) {
+        trees.invalidate(contractId);
+      }
+    }
+    return contract;
+  }
+
+  @Override
+  public void onChange(ContractChange change) {
+    settling.put(change.contractId(), Boolean.TRUE);
+    trees.invalidate(change.contractId());
+    changeInvalidations.increment();
+  }
+
+  @Override
+  public void onConnected() {
+    unsettle();
+    trees.invalidateAll();
+    flushes.increment();
+    listening = true;
+  }
+
+  @Override
+  public void onDisconnected() {
+    listening = false;
+    trees.invalidateAll();
+  }
+
+  private boolean isCacheable(UUID contractId) {
+    return listening && System.nanoTime() - settledAtNanos >= 0 && settling.getIfPresent(contractId) == null;
+  }
+
+  private void unsettle() {
+    settledAtNanos = System.nanoTime() + properties.settle().toNanos();
+  }
+}
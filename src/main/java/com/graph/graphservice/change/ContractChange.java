@@ -0,0 +1,27 @@
+package com.graph.graphservice.change;
+
+import java.util.UUID;
+
+/**
+ * One notification of the {@code contract_changed} channel: a statement changed rows of {@code table}
+ * belonging to the contract. {@code version} is the contract's version at that point, null once the
+ * contract is deleted. A statement sends one notification per contract it touched, not per row, but the
+ * table is part of the payload, so a transaction writing a whole aggregate sends up to five per contract,
+ * one per table.
+ */
+public record ContractChange(UUID contractId, Long version, String table) {
+
+  // '<contract id>:<version>:<table>', bkz. V8__notify_contract_changes.sql
+  static ContractChange parse(String payload) {
+    String[] parts = payload != null ? payload.split(":", -1) : new String[0];
+    if (parts.length != 3) {
+      return null;
+    }
+    try {
+      return new ContractChange(UUID.fromString(parts[0]),
+          parts[1].isEmpty() ? null : Long.valueOf(parts[1]), parts[2]);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
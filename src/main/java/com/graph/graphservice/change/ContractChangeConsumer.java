@@ -0,0 +1,21 @@
+package com.graph.graphservice.change;
+
+/**
+ * Receives the contract changes of every instance from {@link ContractChangeListener}, on the listener
+ * thread. Implementations must not block it.
+ */
+public interface ContractChangeConsumer {
+
+  void onChange(ContractChange change);
+
+  /**
+   * The subscription is (re)established. Changes made while it was down were not delivered, so anything
+   * derived from the database before this call may be stale.
+   */
+  void onConnected();
+
+  /**
+   * The subscription is lost; no changes are delivered until the next {@link #onConnected()}.
+   */
+  void onDisconnected();
+}
@@ -0,0 +1,151 @@
+package com.graph.graphservice.change;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * LISTENs on {@code contract_changed} and hands every notification to the {@link ContractChangeConsumer}
+ * beans. The connection is its own, outside the Hikari pool, and always to the primary
+ * ({@code spring.datasource}): notifications are not delivered on replicas. A lost connection is
+ * reopened with backoff; consumers are told when it drops and when it is back, since notifications in
+ * between are lost. Runs only when there is a consumer.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractChangeListener implements SmartLifecycle {
+  static final String CHANNEL = "contract_changed";
+
+  private final DataSourceProperties dataSourceProperties;
+  private final ContractChangeProperties properties;
+  private final ObjectProvider<ContractChangeConsumer> consumerProvider;
+
+  private volatile List<ContractChangeConsumer> consumers = List.of();
+  private volatile boolean running;
+  private volatile Thread thread;
+  private volatile Connection connection;
+
+  @Override
+  public void start() {
+    consumers = consumerProvider.orderedStream().toList();
+    if (consumers.isEmpty()) {
+      return;
+    }
+    running = true;
+    thread = Thread.ofPlatform()
+        .name("contract-change-listener")
+        .daemon(true)
+        .start(this::run);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    Connection current = connection;
+    if (current != null) {
+      try {
+        current.close();
+      } catch (SQLException e) {
+        log.debug("Could not close the {} connection: {}", CHANNEL, e.getMessage());
+      }
+    }
+    Thread listener = thread;
+    if (listener != null) {
+      listener.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void run() {
+    long delayMillis = properties.reconnectDelay().toMillis();
+    while (running) {
+      try (Connection current = connect()) {
+        connection = current;
+        try (Statement statement = current.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening on {}", CHANNEL);
+        consumers.forEach(ContractChangeConsumer::onConnected);
+        delayMillis = properties.reconnectDelay().toMillis();
+        listen(current);
+      } catch (SQLException e) {
+        if (running) {
+          log.warn("Lost the {} subscription, reconnecting in {} ms: {}", CHANNEL, delayMillis, e.getMessage());
+        }
+      } finally {
+        connection = null;
+        consumers.forEach(ContractChangeConsumer::onDisconnected);
+      }
+
+      if (running) {
+        try {
+          Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        delayMillis = Math.min(delayMillis * 2, properties.maxReconnectDelay().toMillis());
+      }
+    }
+  }
+
+  private Connection connect() throws SQLException {
+    Properties info = new Properties();
+    info.setProperty("user", dataSourceProperties.determineUsername());
+    info.setProperty("password", dataSourceProperties.determinePassword());
+    info.setProperty("ApplicationName", "graph-service " + CHANNEL);
+    info.setProperty("tcpKeepAlive", "true");
+    return DriverManager.getConnection(dataSourceProperties.determineUrl(), info);
+  }
+
+  private void listen(Connection current) throws SQLException {
+    PGConnection pgConnection = current.unwrap(PGConnection.class);
+    int keepaliveMillis = (int) properties.keepaliveInterval().toMillis();
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(keepaliveMillis);
+      if (notifications == null || notifications.length == 0) {
+        // Sessiz kopan bir TCP bağlantısı okuma tarafında fark edilmez, bu yüzden yoklanıyor
+        if (!current.isValid(Math.max(1, keepaliveMillis / 1000))) {
+          throw new SQLException("connection is no longer valid");
+        }
+        continue;
+      }
+      for (PGNotification notification : notifications) {
+        ContractChange change = ContractChange.parse(notification.getParameter());
+        if (change == null) {
+          log.debug("Ignoring malformed {} payload: {}", CHANNEL, notification.getParameter());
+          continue;
+        }
+        dispatch(change);
+      }
+    }
+  }
+
+  private void dispatch(ContractChange change) {
+    for (ContractChangeConsumer consumer : consumers) {
+      try {
+        consumer.onChange(change);
+      } catch (RuntimeException e) {
+        log.warn("{} failed on change of contract {}", consumer.getClass().getSimpleName(), change.contractId(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.graph.graphservice.change;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param keepaliveInterval  the LISTEN connection is validated when no notification arrived for this long,
+ *                           so a silently dropped connection is noticed
+ * @param reconnectDelay     first wait before reconnecting, doubled after every failed attempt
+ * @param maxReconnectDelay  upper bound of the reconnect wait
+ */
+@ConfigurationProperties(prefix = "graph.change")
+public record ContractChangeProperties(
+    @DefaultValue("10s") Duration keepaliveInterval,
+    @DefaultValue("1s") Duration reconnectDelay,
+    @DefaultValue("30s") Duration maxReconnectDelay
+) {
+}
@@ -8,11 +8,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import com.github.javafaker.Faker;
+import com.graph.graphservice.dto.SeedReport;
 import com.graph.graphservice.entity.BranchEnum;
 import com.graph.graphservice.entity.ContractBranchEntity;
 import com.graph.graphservice.entity.ContractDetailEntity;
@@ -21,11 +21,16 @@ import com.graph.graphservice.entity.ContractStatusEnum;
 import com.graph.graphservice.entity.LayerEntity;
 import com.graph.graphservice.entity.ReinstatementEntity;
 import com.graph.graphservice.repository.ContractRepository;
+import com.graph.graphservice.seed.DatasetSeeder;
+import com.graph.graphservice.seed.SeedProperties;
+import com.graph.graphservice.utils.UuidV7;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -33,6 +38,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ContractController {
   private final ContractRepository contractRepository;
+  private final DatasetSeeder datasetSeeder;
+  private final SeedProperties seedProperties;
 
   @GetMapping
   public List<ContractEntity> saveDummies() {
@@ -46,7 +53,7 @@ public class ContractController {
 
           // Contract oluştur
           ContractEntity contract = ContractEntity.builder()
-              .id(UUID.randomUUID())
+              .id(UuidV7.next())
               .contractName(faker.company().name())
               .contractNo(faker.number().digits(6))
               .renewalNo(0)
@@ -57,7 +64,7 @@ public class ContractController {
           if (isFinalized) {
             // ContractDetail ekle
             ContractDetailEntity detail = ContractDetailEntity.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.next())
                 .contract(contract)
                 .startDate(LocalDateTime.now().minusDays(random.nextInt(365)))
                 .endDate(LocalDateTime.now().plusDays(random.nextInt(365)))
@@ -73,7 +80,7 @@ public class ContractController {
                 .mapToObj(idx -> {
                   BranchEnum branch = availableBranches.get(idx);
                   return ContractBranchEntity.builder()
-                      .id(UUID.randomUUID())
+                      .id(UuidV7.next())
                       .branchEnum(branch)
                       .premiumAmount(BigDecimal.valueOf(faker.number().randomDouble(2, 10_000, 500_000)))
                       .contract(contract)
@@ -87,7 +94,7 @@ public class ContractController {
             Set<LayerEntity> layers = IntStream.range(0, layerCount)
                 .mapToObj(layerIndex -> {
                   LayerEntity layer = LayerEntity.builder()
-                      .id(UUID.randomUUID())
+                      .id(UuidV7.next())
                       .contract(contract)
                       .layerOrder(layerIndex + 1)
                       .lossLimitAmount(BigDecimal.valueOf(faker.number().randomDouble(2, 100_000, 1_000_000)))
@@ -101,7 +108,7 @@ public class ContractController {
                     int reinstatementCount = 3 + random.nextInt(3); // 3-5 arası
                     Set<ReinstatementEntity> reinstatements = IntStream.range(0, reinstatementCount)
                         .mapToObj(rIndex -> ReinstatementEntity.builder()
-                            .id(UUID.randomUUID())
+                            .id(UuidV7.next())
                             .layer(layer)
                             .contract(contract)
                             .reinstatementOrder(rIndex + 1)
@@ -121,4 +128,12 @@ public class ContractController {
 
     return contractRepository.saveAll(contracts);
   }
+
+  @PostMapping("/seed")
+  public SeedReport seed(@RequestParam(required = false) Long contracts,
+                         @RequestParam(required = false) Long seed) {
+    return datasetSeeder.seed(
+        contracts != null ? contracts : seedProperties.getContracts(),
+        seed != null ? seed : seedProperties.getSeed());
+  }
 }
@@ -1,132 +1,219 @@
 package com.graph.graphservice.controller;
 
 import graphql.schema.DataFetchingEnvironment;
-import graphql.schema.DataFetchingFieldSelectionSet;
 
-import java.util.HashSet;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import com.graph.graphservice.batch.ContractIdBatch;
+import com.graph.graphservice.cache.ContractTreeCache;
+import com.graph.graphservice.deadline.QueryDeadline;
+import com.graph.graphservice.dto.ContractFetchStat;
+import com.graph.graphservice.dto.ContractFilter;
+import com.graph.graphservice.dto.ContractInput;
+import com.graph.graphservice.dto.ContractQueryPlanResponse;
 import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.ContractSummaryResponse;
+import com.graph.graphservice.dto.ContractUpdate;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.dto.UpsertContractsResponse;
 import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.entity.ContractStatusEnum;
+import com.graph.graphservice.fetch.AdaptiveContractFetchSelector;
+import com.graph.graphservice.fetch.ContractFetchEngine;
+import com.graph.graphservice.fetch.ContractFetchRequest;
+import com.graph.graphservice.fetch.ContractFetchStrategy;
+import com.graph.graphservice.fetch.DynamicSqlContractFetchStrategy;
+import com.graph.graphservice.fetch.DynamicSqlV2ContractFetchStrategy;
+import com.graph.graphservice.fetch.DynamicSqlV3ContractFetchStrategy;
+import com.graph.graphservice.fetch.PlannedContractFetchStrategy;
+import com.graph.graphservice.incremental.DeferredContractLoader;
 import com.graph.graphservice.mapper.ContractMapper;
-import com.graph.graphservice.repository.ContractRepository;
-import com.graph.graphservice.repository.DynamicContractRepository;
-import com.graph.graphservice.repository.DynamicContractRepositoryV2;
+import com.graph.graphservice.repository.ContractSearchRepository;
 import com.graph.graphservice.repository.DynamicContractRepositoryV3;
+import com.graph.graphservice.service.ContractIngestService;
+import com.graph.graphservice.service.ContractPlanService;
+import com.graph.graphservice.service.ContractQueryService;
+import com.graph.graphservice.service.ContractSummaryService;
+import com.graph.graphservice.subscription.ContractWatchRegistry;
+import com.graph.graphservice.utils.FieldNodeUtil;
 import com.graph.graphservice.utils.GraphQLFieldCollector;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
 
 @Controller
 @RequiredArgsConstructor
 public class GraphQlController {
-  private final ContractRepository contractRepository;
-  private final DynamicContractRepository dynamicContractRepository;
-  private final DynamicContractRepositoryV2 dynamicContractRepositoryV2;
+  private static final int MAX_SEARCH_RESULTS = 500;
+
   private final DynamicContractRepositoryV3 dynamicContractRepositoryV3;
+  private final ContractSearchRepository contractSearchRepository;
+  private final ContractIngestService contractIngestService;
+  private final ContractQueryService contractQueryService;
+  private final ContractSummaryService contractSummaryService;
+  private final ContractPlanService contractPlanService;
+  private final DeferredContractLoader deferredContractLoader;
+  private final AdaptiveContractFetchSelector adaptiveContractFetchSelector;
+  private final ContractFetchEngine contractFetchEngine;
+  private final DynamicSqlContractFetchStrategy dynamicSqlContractFetchStrategy;
+  private final DynamicSqlV2ContractFetchStrategy dynamicSqlV2ContractFetchStrategy;
+  private final DynamicSqlV3ContractFetchStrategy dynamicSqlV3ContractFetchStrategy;
+  private final PlannedContractFetchStrategy plannedContractFetchStrategy;
+  private final ObjectProvider<ContractTreeCache> contractTreeCache;
+  private final ContractWatchRegistry contractWatchRegistry;
 
   @QueryMapping
-  public ContractResponse getContract(@Argument("contractId") UUID contractId) {
-    ContractEntity contractEntity = contractRepository.findById(contractId)
-        .orElseThrow(() -> new IllegalArgumentException("Contract Not Found"));
-
-    return ContractMapper.INSTANCE.toModel(contractEntity);
+  public ContractResponse getContract(@Argument("contractId") UUID contractId,
+                                      DataFetchingEnvironment env) {
+    // @defer ile ertelenen alt ağaçlar ilk yanıt gönderildikten sonra ayrı sorgularla yüklenir
+    return deferredContractLoader.loadOne(env, "getContract",
+        selection -> findContract(contractId, selection, env));
   }
 
   @QueryMapping
-  public List<ContractResponse> getAllContracts() {
-    List<ContractEntity> contracts = contractRepository.findAll();
+  public List<ContractResponse> getAllContracts(DataFetchingEnvironment env) {
+    return deferredContractLoader.loadAll(env, "getAllContracts", contractQueryService::findAllContracts);
+  }
+
 
-    return ContractMapper.INSTANCE.toModels(contracts);
+  @QueryMapping
+  public ContractResponse contract(@Argument("id") UUID contractId,
+                                   @Argument("strategy") String strategy,
+                                   DataFetchingEnvironment env) {
+    // Engine, bu seçim şekli için ölçülen gecikmeye göre seçiliyor; strategy verilirse sabitlenir
+    return adaptiveContractFetchSelector.fetch(contractId, strategy, env);
   }
 
+  @QueryMapping
+  public List<ContractFetchStat> contractFetchStats() {
+    return adaptiveContractFetchSelector.stats();
+  }
 
   @QueryMapping
   public ContractResponse getContractDynamicSql(@Argument("contractId") UUID contractId,
                                                 DataFetchingEnvironment env) {
-    DataFetchingFieldSelectionSet selectionSet = env.getSelectionSet();
-
-    Set<String> contractFields = new HashSet<>();
-    Set<String> detailFields = new HashSet<>();
-    Set<String> layerFields = new HashSet<>();
-    Set<String> reinFields = new HashSet<>();
-
-    selectionSet.getFields().forEach(field -> {
-      String path = field.getQualifiedName(); // örn: "layers/reinstatements/reinstatementOrder"
-
-      if (path.startsWith("layers/reinstatements/")) {
-        reinFields.add(path.replace("layers/reinstatements/", ""));
-      } else if (path.startsWith("layers/")) {
-        layerFields.add(path.replace("layers/", ""));
-      } else if (path.startsWith("contractDetail/")) {
-        detailFields.add(path.replace("contractDetail/", ""));
-      } else if (!"layers".equals(path) && !"contractDetail".equals(path)) {
-        contractFields.add(field.getName());
-      }
-    });
-
-    ContractEntity contractEntity = dynamicContractRepository.findContractDynamic(
-        contractId, contractFields, detailFields, layerFields, reinFields
-    );
-
-    return ContractMapper.INSTANCE.toModel(contractEntity);
+    return fetchWith(dynamicSqlContractFetchStrategy, contractId, env);
   }
 
   @QueryMapping
   public ContractResponse getContractDynamicSqlV2(@Argument("contractId") UUID contractId,
                                                   DataFetchingEnvironment env) {
-    DataFetchingFieldSelectionSet selectionSet = env.getSelectionSet();
-
-    Set<String> contractFields = new HashSet<>();
-    Set<String> layerFields = new HashSet<>();
-    Set<String> reinstatementFields = new HashSet<>();
-    Set<String> contractDetailFields = new HashSet<>();
-
-    selectionSet.getFields().forEach(field -> {
-      String path = field.getQualifiedName();
-
-      if (path.startsWith("layers/")) {
-        String remainingPath = path.replace("layers/", "");
-        if (remainingPath.startsWith("reinstatements/")) {
-          reinstatementFields.add(remainingPath.replace("reinstatements/", ""));
-        } else {
-          layerFields.add(remainingPath);
-        }
-      } else if (path.startsWith("contractDetail/")) {
-        contractDetailFields.add(path.replace("contractDetail/", ""));
-      } else if (!"layers".equals(path) && !"contractDetail".equals(path)) {
-        contractFields.add(field.getName());
-      }
-    });
-
-    System.out.println("Contract fields: " + contractFields);
-    System.out.println("Layer fields: " + layerFields);
-    System.out.println("Reinstatement fields: " + reinstatementFields);
-    System.out.println("ContractDetail fields: " + contractDetailFields);
-
-    ContractEntity contractEntity = dynamicContractRepositoryV2.findContractDynamic(
-        contractId, contractFields, layerFields, reinstatementFields, contractDetailFields);
+    return fetchWith(dynamicSqlV2ContractFetchStrategy, contractId, env);
+  }
 
-    return ContractMapper.INSTANCE.toModel(contractEntity);
+  @QueryMapping
+  public Mono<ContractResponse> getContractDynamicSqlV3(@Argument("contractId") UUID contractId,
+                                                        DataFetchingEnvironment env) {
+    // graph.fetch.engine=r2dbc ise sorgu thread bloklanmadan çalışır
+    if (contractFetchEngine.isReactive()) {
+      return contractFetchEngine.findContracts(List.of(contractId), selection(env), deadline(env)).next();
+    }
+    return Mono.fromSupplier(() -> fetchWith(dynamicSqlV3ContractFetchStrategy, contractId, env));
   }
 
   @QueryMapping
-  public ContractResponse getContractDynamicSqlV3(@Argument("contractId") UUID contractId,
+  public ContractResponse getContractDynamicSqlV4(@Argument("contractId") UUID contractId,
                                                   DataFetchingEnvironment env) {
-    // GraphQLFieldCollector kullanılarak seçilen field'lar toplanıyor
+    return fetchWith(plannedContractFetchStrategy, contractId, env);
+  }
+
+  @QueryMapping
+  public ContractQueryPlanResponse explainContractQuery(@Argument("selection") String selection,
+                                                        @Argument("contractCount") Integer contractCount) {
+    return contractPlanService.explain(selection, contractCount);
+  }
+
+  @QueryMapping
+  public Flux<ContractResponse> searchContracts(@Argument("filter") ContractFilter filter,
+                                                @Argument("first") Integer first,
+                                                DataFetchingEnvironment env) {
+    if (first == null || first < 1 || first > MAX_SEARCH_RESULTS) {
+      throw new IllegalArgumentException("first must be between 1 and " + MAX_SEARCH_RESULTS);
+    }
+
+    // Önce filtre sadece id'leri seçiyor, sonra seçilen field'lar bu id'ler için yükleniyor
+    List<UUID> contractIds = contractSearchRepository.findContractIds(filter, first);
+    if (contractFetchEngine.isReactive()) {
+      return contractFetchEngine.findContracts(contractIds, selection(env), deadline(env));
+    }
     Map<Class<?>, Set<String>> selectedFields = GraphQLFieldCollector.collectFields(env, ContractEntity.class);
 
-    // Dynamic repository ile sadece istenen field'lar ve ilişkiler yükleniyor
-    ContractEntity contractEntity = dynamicContractRepositoryV3.findEntityDynamic(
-        contractId, ContractEntity.class, selectedFields);
+    List<ContractEntity> contracts = dynamicContractRepositoryV3.findEntitiesDynamic(
+        contractIds, ContractEntity.class, selectedFields);
+
+    return Flux.fromIterable(ContractMapper.INSTANCE.toModels(contracts));
+  }
+
+  @QueryMapping
+  public List<ContractSummaryResponse> contractSummaries(@Argument("contractStatus") ContractStatusEnum contractStatus,
+                                                         @Argument("after") UUID after,
+                                                         @Argument("first") Integer first) {
+    return contractSummaryService.findSummaries(contractStatus, after, first);
+  }
+
+  @MutationMapping
+  public UpsertContractsResponse upsertContracts(@Argument("input") List<ContractInput> input) {
+    return contractIngestService.upsertContracts(input);
+  }
+
+  @MutationMapping
+  public int rebuildContractSummaries() {
+    return contractSummaryService.rebuild();
+  }
+
+  @SubscriptionMapping
+  public Flux<ContractUpdate> contractUpdated(@Argument("id") UUID contractId, DataFetchingEnvironment env) {
+    // contract seçilmediyse sadece version izlenir, her aggregate değişikliği onu artırır
+    FieldNode selection = env.getSelectionSet().getImmediateFields().stream()
+        .filter(field -> "contract".equals(field.getName()))
+        .findFirst()
+        .map(FieldNodeUtil::buildFieldNodeRecursive)
+        .orElseGet(() -> FieldNode.builder()
+            .name("contract")
+            .children(List.of(FieldNode.builder().name("version").build()))
+            .build());
+    return contractWatchRegistry.watch(contractId, selection);
+  }
+
+  private ContractResponse findContract(UUID contractId, FieldNode selection, DataFetchingEnvironment env) {
+    ContractTreeCache cache = contractTreeCache.getIfAvailable();
+    return cache != null
+        ? cache.get(contractId, selection, () -> loadContract(contractId, selection, env))
+        : loadContract(contractId, selection, env);
+  }
+
+  // Aynı batch'te aynı şekli seçen getContract operasyonları tek çoklu-id sorgusunu paylaşır
+  private ContractResponse loadContract(UUID contractId, FieldNode selection, DataFetchingEnvironment env) {
+    ContractIdBatch batch = env.getGraphQlContext().get(ContractIdBatch.class);
+    ContractResponse contract = batch != null
+        ? batch.find(contractId, contractIds -> contractQueryService.findContracts(contractIds, selection))
+        : null;
+    return contract != null ? contract : contractQueryService.findContract(contractId, selection);
+  }
+
+  private ContractResponse fetchWith(ContractFetchStrategy strategy, UUID contractId, DataFetchingEnvironment env) {
+    ContractEntity contractEntity = strategy.fetch(new ContractFetchRequest(contractId, env, selection(env)));
 
     return ContractMapper.INSTANCE.toModel(contractEntity);
   }
+
+  private FieldNode selection(DataFetchingEnvironment env) {
+    return FieldNodeUtil.buildFieldTree(env.getSelectionSet(), "contract");
+  }
+
+  private QueryDeadline deadline(DataFetchingEnvironment env) {
+    return env.getGraphQlContext().get(QueryDeadline.class);
+  }
 }
@@ -0,0 +1,72 @@
+package com.graph.graphservice.deadline;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.postgresql.jdbc.PgStatement;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out connections that follow the current {@link QueryDeadline}: the deadline is checked before
+ * every statement is created, the remaining budget becomes the statement's query timeout as a backstop
+ * to the watchdog, and the connection is registered for cancellation until it goes back to the pool.
+ * Without a deadline (seeding, Flyway, the ETag lookup) connections pass through untouched.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+  public DeadlineAwareDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    QueryDeadline deadline = QueryDeadline.current();
+    if (deadline == null) {
+      return super.getConnection();
+    }
+    // Süresi dolmuş iş havuzdan bağlantı almaz
+    deadline.check();
+
+    Connection connection = super.getConnection();
+    deadline.register(connection);
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+        new DeadlineConnectionHandler(connection, deadline));
+  }
+
+  private record DeadlineConnectionHandler(Connection target, QueryDeadline deadline) implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      boolean createsStatement = switch (method.getName()) {
+        case "createStatement", "prepareStatement", "prepareCall" -> true;
+        default -> false;
+      };
+      if (createsStatement) {
+        deadline.check();
+      } else if ("close".equals(method.getName())) {
+        deadline.unregister(target);
+      }
+
+      Object result;
+      try {
+        result = method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+      // Oturum başına "set statement_timeout" round trip'i yerine sürücünün statement zaman aşımı;
+      // başlatılmamış deadline (abonelik) süre koymaz, sadece iptal için kayıt tutar
+      if (createsStatement && deadline.getTimeout() != null) {
+        ((Statement) result).unwrap(PgStatement.class)
+            .setQueryTimeoutMs(Math.max(1, deadline.remaining().toMillis()));
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.graph.graphservice.deadline;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DeadlineConfig {
+
+  // Hikari havuzunun önüne geçer; JPA, JdbcTemplate ve planner aynı DataSource bean'ini kullanıyor
+  @Bean
+  public static BeanPostProcessor deadlineAwareDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineAwareDataSource)) {
+          return new DeadlineAwareDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,41 @@
+package com.graph.graphservice.deadline;
+
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.sql.SQLException;
+
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports deadline failures as {@code DEADLINE_EXCEEDED} instead of an internal error. Engines wrap
+ * exceptions, so the cause chain is searched; a server-side cancel ({@code 57014}) counts when the
+ * operation's deadline is already over.
+ */
+@Component
+public class DeadlineExceptionResolver extends DataFetcherExceptionResolverAdapter {
+  private static final String QUERY_CANCELED = "57014";
+
+  enum DeadlineErrorType implements ErrorClassification {
+    DEADLINE_EXCEEDED
+  }
+
+  @Override
+  protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+    QueryDeadline deadline = env.getGraphQlContext().get(QueryDeadline.class);
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof QueryDeadlineExceededException
+          || (cause instanceof SQLException sqlException && QUERY_CANCELED.equals(sqlException.getSQLState())
+          && deadline != null && deadline.isExceeded())) {
+        return GraphqlErrorBuilder.newError(env)
+            .errorType(DeadlineErrorType.DEADLINE_EXCEEDED)
+            .message(cause instanceof QueryDeadlineExceededException ? cause.getMessage() : deadline.describe())
+            .build();
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,142 @@
+package com.graph.graphservice.deadline;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.ResultPath;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.incremental.DeferPayload;
+import graphql.incremental.DelayedIncrementalPartialResult;
+import graphql.incremental.DelayedIncrementalPartialResultImpl;
+import graphql.incremental.IncrementalExecutionResult;
+import graphql.incremental.IncrementalPayload;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import jakarta.annotation.PreDestroy;
+
+import com.graph.graphservice.incremental.IncrementalResults;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts the operation's {@link QueryDeadline} once the operation type is known and binds it to the
+ * thread around every non-trivial data fetcher, so repositories and the JDBC layer see it. A fetcher
+ * that starts after the deadline fails right away instead of taking a connection. With {@code @defer}
+ * the watchdog stays armed until the last deferred payload, not just the initial one; the first payload
+ * after expiry carries a {@code DEADLINE_EXCEEDED} error and ends the stream.
+ */
+@Component
+public class DeadlineInstrumentation extends SimplePerformantInstrumentation {
+  private final DeadlineProperties properties;
+  private final ScheduledExecutorService watchdog;
+
+  public DeadlineInstrumentation(DeadlineProperties properties) {
+    this.properties = properties;
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+        .name("query-deadline-watchdog")
+        .daemon(true)
+        .factory());
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters,
+                                                                InstrumentationState state) {
+    GraphQLContext context = parameters.getGraphQLContext();
+    return SimpleInstrumentationContext.whenCompleted((result, throwable) -> {
+      QueryDeadline deadline = context.get(QueryDeadline.class);
+      // Ertelenen payload'lar varsa akış bitince kapatılır (instrumentExecutionResult)
+      if (deadline != null && !(result instanceof IncrementalExecutionResult)) {
+        deadline.close();
+      }
+    });
+  }
+
+  @Override
+  public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                      InstrumentationExecutionParameters parameters,
+                                                                      InstrumentationState state) {
+    QueryDeadline deadline = parameters.getGraphQLContext().get(QueryDeadline.class);
+    ExecutionResult deferred = deadline == null ? null : IncrementalResults.transform(executionResult, parts -> parts
+        .map(part -> part.hasNext() && deadline.isExceeded() ? last(part, deadline) : part)
+        .takeUntil(part -> !part.hasNext())
+        .doFinally(signal -> deadline.close()));
+    return CompletableFuture.completedFuture(deferred != null ? deferred : executionResult);
+  }
+
+  // Süre dolduktan sonra kalan fragment'ların her biri ayrı hata payload'ı olurdu, akış burada biter
+  private DelayedIncrementalPartialResult last(DelayedIncrementalPartialResult part, QueryDeadline deadline) {
+    List<IncrementalPayload> items = new ArrayList<>(part.getIncremental());
+    items.add(DeferPayload.newDeferredItem()
+        .path(ResultPath.rootPath())
+        .errors(List.of(GraphqlErrorBuilder.newError()
+            .errorType(DeadlineExceptionResolver.DeadlineErrorType.DEADLINE_EXCEEDED)
+            .message(deadline.describe())
+            .build()))
+        .build());
+    return DelayedIncrementalPartialResultImpl.newIncrementalExecutionResult()
+        .incrementalItems(items)
+        .extensions(part.getExtensions())
+        .hasNext(false)
+        .build();
+  }
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                       InstrumentationState state) {
+    GraphQLContext context = parameters.getExecutionContext().getGraphQLContext();
+    OperationDefinition.Operation operation = parameters.getExecutionContext().getOperationDefinition().getOperation();
+
+    // HTTP dışındaki yollarda interceptor çalışmaz, varsayılan süreyle deadline burada oluşturulur
+    QueryDeadline deadline = context.get(QueryDeadline.class);
+    if (deadline == null) {
+      deadline = new QueryDeadline(null);
+      context.put(QueryDeadline.class, deadline);
+    }
+    // Abonelik uzun ömürlü, olayları süre sınırı olmadan çözülür; iptal (istemci gitti) yine geçerli
+    if (operation == OperationDefinition.Operation.SUBSCRIPTION) {
+      return SimpleInstrumentationContext.noOp();
+    }
+    deadline.start(operation, properties.timeoutFor(operation, deadline.getRequested()), watchdog);
+    return SimpleInstrumentationContext.noOp();
+  }
+
+  @Override
+  public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                             InstrumentationFieldFetchParameters parameters,
+                                             InstrumentationState state) {
+    if (parameters.isTrivialDataFetcher()) {
+      return dataFetcher;
+    }
+    return env -> {
+      QueryDeadline deadline = env.getGraphQlContext().get(QueryDeadline.class);
+      if (deadline == null) {
+        return dataFetcher.get(env);
+      }
+      deadline.check();
+      QueryDeadline previous = QueryDeadline.bind(deadline);
+      try {
+        return dataFetcher.get(env);
+      } finally {
+        QueryDeadline.restore(previous);
+      }
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    watchdog.shutdownNow();
+  }
+}
@@ -0,0 +1,35 @@
+package com.graph.graphservice.deadline;
+
+import graphql.language.OperationDefinition;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param queryTimeout    budget of a query when the request does not ask for one
+ * @param mutationTimeout budget of a mutation (ingest, summary rebuild) when the request does not ask for one
+ * @param minTimeout      lower bound for a requested budget
+ * @param maxTimeout      upper bound for a requested budget
+ * @param header          request header carrying the client's budget in milliseconds
+ */
+@ConfigurationProperties(prefix = "graph.deadline")
+public record DeadlineProperties(
+    @DefaultValue("5s") Duration queryTimeout,
+    @DefaultValue("60s") Duration mutationTimeout,
+    @DefaultValue("100ms") Duration minTimeout,
+    @DefaultValue("30s") Duration maxTimeout,
+    @DefaultValue("X-Request-Timeout") String header
+) {
+
+  public Duration timeoutFor(OperationDefinition.Operation operation, Duration requested) {
+    if (requested == null) {
+      return operation == OperationDefinition.Operation.MUTATION ? mutationTimeout : queryTimeout;
+    }
+    if (requested.compareTo(minTimeout) < 0) {
+      return minTimeout;
+    }
+    return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+  }
+}
@@ -0,0 +1,155 @@
+package com.graph.graphservice.deadline;
+
+import graphql.language.OperationDefinition;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.postgresql.PGConnection;
+
+/**
+ * Time budget of one GraphQL operation. It travels in the {@link graphql.GraphQLContext} and is bound to
+ * the thread while a data fetcher runs, so the JDBC layer can turn the remaining time into a statement
+ * query timeout and register the connections it hands out. When the budget runs out or the
+ * request is abandoned, statements still running on those connections are cancelled on the server.
+ */
+@Slf4j
+public class QueryDeadline {
+  private static final ThreadLocal<QueryDeadline> CURRENT = new ThreadLocal<>();
+
+  // Header ile istenen süre, limitlere göre kırpılmadan önceki hali
+  @Getter
+  private final Duration requested;
+  // cancel ile unregister aynı kilitte: havuza dönüp başka isteğe verilmiş bir bağlantı iptal edilmez,
+  // PostgreSQL iptali backend'e göre yaptığı için o isteğin sorgusu ölürdü
+  private final Set<Connection> connections = new HashSet<>();
+
+  @Getter
+  private volatile OperationDefinition.Operation operation;
+  @Getter
+  private volatile Duration timeout;
+  private volatile long expiresAtNanos = Long.MAX_VALUE;
+  private volatile String cancelReason;
+  private volatile ScheduledFuture<?> expiry;
+
+  public QueryDeadline(Duration requested) {
+    this.requested = requested;
+  }
+
+  public static QueryDeadline current() {
+    return CURRENT.get();
+  }
+
+  // Aşamalar arasında çağrılır: süre dolduysa veya istek bırakıldıysa kalan iş yapılmaz
+  public static void checkCurrent() {
+    QueryDeadline deadline = CURRENT.get();
+    if (deadline != null) {
+      deadline.check();
+    }
+  }
+
+  static QueryDeadline bind(QueryDeadline deadline) {
+    QueryDeadline previous = CURRENT.get();
+    CURRENT.set(deadline);
+    return previous;
+  }
+
+  static void restore(QueryDeadline previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  // Fetcher dışında, başka bir thread'de devam eden iş için (ertelenen fragment'lar)
+  public Runnable wrap(Runnable task) {
+    return () -> {
+      QueryDeadline previous = bind(this);
+      try {
+        task.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  /**
+   * Starts the clock and schedules the watchdog that cancels in-flight statements at expiry.
+   */
+  void start(OperationDefinition.Operation operation, Duration timeout, ScheduledExecutorService watchdog) {
+    this.operation = operation;
+    this.timeout = timeout;
+    this.expiresAtNanos = System.nanoTime() + timeout.toNanos();
+    this.expiry = watchdog.schedule(() -> cancel("deadline of " + timeout.toMillis() + " ms exceeded"),
+        timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  void close() {
+    ScheduledFuture<?> scheduled = expiry;
+    if (scheduled != null) {
+      scheduled.cancel(false);
+    }
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+  }
+
+  public boolean isExceeded() {
+    return cancelReason != null || System.nanoTime() >= expiresAtNanos;
+  }
+
+  public void check() {
+    if (isExceeded()) {
+      throw new QueryDeadlineExceededException(describe());
+    }
+  }
+
+  public String describe() {
+    String reason = cancelReason;
+    return "Query cancelled: " + (reason != null ? reason : "deadline of " + timeout.toMillis() + " ms exceeded");
+  }
+
+  public void cancel(String reason) {
+    if (cancelReason != null) {
+      return;
+    }
+    cancelReason = reason;
+    synchronized (connections) {
+      for (Connection connection : connections) {
+        try {
+          // Sunucuya ayrı bir bağlantıdan cancel isteği gider, bekleyen JDBC çağrısı 57014 ile döner
+          connection.unwrap(PGConnection.class).cancelQuery();
+        } catch (SQLException e) {
+          log.debug("Could not cancel statement: {}", e.getMessage());
+        }
+      }
+      if (!connections.isEmpty()) {
+        log.info("Cancelled in-flight statements on {} connection(s): {}", connections.size(), reason);
+      }
+    }
+  }
+
+  void register(Connection connection) {
+    synchronized (connections) {
+      connections.add(connection);
+    }
+  }
+
+  // Bağlantı havuza dönmeden önce çağrılır
+  void unregister(Connection connection) {
+    synchronized (connections) {
+      connections.remove(connection);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.graph.graphservice.deadline;
+
+public class QueryDeadlineExceededException extends RuntimeException {
+
+  // Süre dolunca kalan her ertelenen fetcher bununla düşer, stack trace toplanmaz
+  public QueryDeadlineExceededException(String message) {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,47 @@
+package com.graph.graphservice.deadline;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Attaches a {@link QueryDeadline} to every HTTP request, with the budget the client asked for in the
+ * deadline header. If the response is cancelled (client gone, async timeout) the deadline is cancelled too,
+ * which stops the remaining steps and the statements in flight.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryDeadlineInterceptor implements WebGraphQlInterceptor {
+  private final DeadlineProperties properties;
+
+  @Override
+  public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+    QueryDeadline deadline = new QueryDeadline(requestedTimeout(request.getHeaders().getFirst(properties.header())));
+    request.configureExecutionInput((input, builder) -> {
+      input.getGraphQLContext().put(QueryDeadline.class, deadline);
+      return input;
+    });
+    return chain.next(request)
+        .doOnCancel(() -> deadline.cancel("request abandoned"));
+  }
+
+  // Geçersiz değer verilirse operasyonun varsayılan süresi kullanılır
+  private Duration requestedTimeout(String header) {
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    try {
+      long millis = Long.parseLong(header.trim());
+      return millis > 0 ? Duration.ofMillis(millis) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.graph.graphservice.dto;
+
+import java.util.UUID;
+
+public record ContractDetailInput(
+    UUID id,
+    String startDate,
+    String endDate
+) {
+}
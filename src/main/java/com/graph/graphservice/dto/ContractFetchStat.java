@@ -0,0 +1,15 @@
+package com.graph.graphservice.dto;
+
+import lombok.Builder;
+
+@Builder
+public record ContractFetchStat(
+    String shape,
+    String strategy,
+    long samples,
+    long failures,
+    double latencyMillis,
+    double rows,
+    boolean preferred
+) {
+}
@@ -0,0 +1,17 @@
+package com.graph.graphservice.dto;
+
+import java.util.List;
+
+import com.graph.graphservice.entity.BranchEnum;
+import com.graph.graphservice.entity.ContractStatusEnum;
+
+// Tarih aralıkları ISO-8601 (2025-01-01T00:00:00), sınırlar dahil
+public record ContractFilter(
+    ContractStatusEnum contractStatus,
+    List<BranchEnum> branches,
+    String startDateFrom,
+    String startDateTo,
+    String endDateFrom,
+    String endDateTo
+) {
+}
@@ -0,0 +1,20 @@
+package com.graph.graphservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.graph.graphservice.entity.ContractStatusEnum;
+
+public record ContractInput(
+    UUID id,
+    String contractName,
+    String contractNo,
+    Integer renewalNo,
+    Integer endorsementNo,
+    ContractStatusEnum contractStatus,
+
+    ContractDetailInput contractDetail,
+    List<CoverageInput> coverages,
+    List<LayerInput> layers
+) {
+}
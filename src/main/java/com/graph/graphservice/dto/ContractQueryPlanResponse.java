@@ -0,0 +1,15 @@
+package com.graph.graphservice.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record ContractQueryPlanResponse(
+    String logicalPlan,
+    String optimizedPlan,
+    List<String> appliedRules,
+    List<String> sql,
+    double estimatedRows
+) {
+}
@@ -1,5 +1,6 @@
 package com.graph.graphservice.dto;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +16,13 @@ public record ContractResponse(
     Integer renewalNo,
     Integer endorsementNo,
     ContractStatusEnum contractStatus,
+    Long version,
+
+    BigDecimal totalPremium,
+    Integer layerCount,
+    Integer reinstatementCount,
+    BigDecimal totalLossLimit,
+    BigDecimal totalDeductible,
 
     List<CoverageResponse> coverages,
     List<LayerResponse> layers,
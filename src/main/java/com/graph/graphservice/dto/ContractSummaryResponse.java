@@ -0,0 +1,25 @@
+package com.graph.graphservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.graph.graphservice.entity.BranchEnum;
+import com.graph.graphservice.entity.ContractStatusEnum;
+
+import lombok.Builder;
+
+@Builder
+public record ContractSummaryResponse(
+    UUID contractId,
+    String contractNo,
+    String contractName,
+    ContractStatusEnum contractStatus,
+    List<BranchEnum> branches,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    BigDecimal totalPremium,
+    Integer layerCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.graph.graphservice.dto;
+
+import java.util.List;
+
+/**
+ * One event of the {@code contractUpdated} subscription.
+ *
+ * @param changed  top-level contract fields of the subscriber's selection that changed since its previous
+ *                 event; all of them in the first event
+ * @param contract the contract projected on the selection, null once it is deleted
+ */
+public record ContractUpdate(
+    Long version,
+    List<String> changed,
+    ContractResponse contract
+) {
+}
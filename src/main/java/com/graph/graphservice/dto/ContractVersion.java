@@ -0,0 +1,9 @@
+package com.graph.graphservice.dto;
+
+import java.util.UUID;
+
+public record ContractVersion(
+    UUID id,
+    Long version
+) {
+}
@@ -0,0 +1,13 @@
+package com.graph.graphservice.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.graph.graphservice.entity.BranchEnum;
+
+public record CoverageInput(
+    UUID id,
+    BranchEnum branchEnum,
+    BigDecimal premiumAmount
+) {
+}
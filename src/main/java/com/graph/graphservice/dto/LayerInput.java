@@ -0,0 +1,17 @@
+package com.graph.graphservice.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record LayerInput(
+    UUID id,
+    int layerOrder,
+    BigDecimal lossLimitAmount,
+    BigDecimal lossLimitAmountRc,
+    BigDecimal deductibleAmount,
+    BigDecimal deductibleAmountRc,
+
+    List<ReinstatementInput> reinstatements
+) {
+}
@@ -6,7 +6,7 @@ import java.util.UUID;
 
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record LayerResponse(
     UUID id,
     int layerOrder,
@@ -0,0 +1,11 @@
+package com.graph.graphservice.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ReinstatementInput(
+    UUID id,
+    int reinstatementOrder,
+    BigDecimal reinstatementRatio
+) {
+}
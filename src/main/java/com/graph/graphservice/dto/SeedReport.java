@@ -0,0 +1,16 @@
+package com.graph.graphservice.dto;
+
+import lombok.Builder;
+
+@Builder
+public record SeedReport(
+    long seed,
+    long contracts,
+    long contractDetails,
+    long coverages,
+    long layers,
+    long reinstatements,
+    long durationMillis,
+    double rowsPerSecond
+) {
+}
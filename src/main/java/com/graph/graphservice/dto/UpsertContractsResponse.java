@@ -0,0 +1,15 @@
+package com.graph.graphservice.dto;
+
+import lombok.Builder;
+
+@Builder
+public record UpsertContractsResponse(
+    int inserted,
+    int updated,
+    int contractDetails,
+    int coverages,
+    int layers,
+    int reinstatements,
+    int chunks
+) {
+}
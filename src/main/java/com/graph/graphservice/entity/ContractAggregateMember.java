@@ -0,0 +1,10 @@
+package com.graph.graphservice.entity;
+
+/**
+ * A child row of the contract aggregate. Inserting, updating or deleting one bumps the version of
+ * its contract (see {@link ContractAggregateVersionListener}).
+ */
+public interface ContractAggregateMember {
+
+  ContractEntity getContract();
+}
@@ -0,0 +1,29 @@
+package com.graph.graphservice.entity;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+// META-INF/services üzerinden Hibernate tarafından yüklenir
+public class ContractAggregateVersionIntegrator implements Integrator {
+
+  @Override
+  public void integrate(Metadata metadata,
+                        BootstrapContext bootstrapContext,
+                        SessionFactoryImplementor sessionFactory) {
+    EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    ContractAggregateVersionListener listener = new ContractAggregateVersionListener();
+
+    registry.appendListeners(EventType.PERSIST, listener);
+    registry.appendListeners(EventType.FLUSH_ENTITY, listener);
+    registry.appendListeners(EventType.DELETE, listener);
+  }
+
+  @Override
+  public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+  }
+}
@@ -0,0 +1,70 @@
+package com.graph.graphservice.entity;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.DeleteContext;
+import org.hibernate.event.spi.DeleteEvent;
+import org.hibernate.event.spi.DeleteEventListener;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.event.spi.PersistContext;
+import org.hibernate.event.spi.PersistEvent;
+import org.hibernate.event.spi.PersistEventListener;
+
+/**
+ * Force-increments the version of the owning {@link ContractEntity} when a
+ * {@link ContractAggregateMember} is persisted, becomes dirty or is deleted, so the contract version
+ * covers the whole aggregate. JPQL bulk statements bypass these events; callers using them have to
+ * set the version themselves.
+ */
+public class ContractAggregateVersionListener
+    implements PersistEventListener, FlushEntityEventListener, DeleteEventListener {
+
+  @Override
+  public void onPersist(PersistEvent event) {
+    incrementRootVersion(event.getSession(), event.getObject());
+  }
+
+  @Override
+  public void onPersist(PersistEvent event, PersistContext createdAlready) {
+    incrementRootVersion(event.getSession(), event.getObject());
+  }
+
+  @Override
+  public void onFlushEntity(FlushEntityEvent event) {
+    EntityEntry entry = event.getEntityEntry();
+    // Default listener dirty property'leri önceden hesaplamış olur
+    if (entry.getStatus() == Status.MANAGED && event.hasDirtyProperties()) {
+      incrementRootVersion(event.getSession(), event.getEntity());
+    }
+  }
+
+  @Override
+  public void onDelete(DeleteEvent event) {
+    incrementRootVersion(event.getSession(), event.getObject());
+  }
+
+  @Override
+  public void onDelete(DeleteEvent event, DeleteContext transientEntities) {
+    incrementRootVersion(event.getSession(), event.getObject());
+  }
+
+  private void incrementRootVersion(EventSource session, Object entity) {
+    if (!(entity instanceof ContractAggregateMember member)) {
+      return;
+    }
+
+    ContractEntity contract = member.getContract();
+    // Aynı flush'ta insert edilecek contract zaten yeni version ile yazılır
+    if (contract == null || contract.isNew() || !session.contains(contract)) {
+      return;
+    }
+
+    LockMode current = session.getCurrentLockMode(contract);
+    if (current != LockMode.OPTIMISTIC_FORCE_INCREMENT && current != LockMode.PESSIMISTIC_FORCE_INCREMENT) {
+      session.lock(contract, LockMode.OPTIMISTIC_FORCE_INCREMENT);
+    }
+  }
+}
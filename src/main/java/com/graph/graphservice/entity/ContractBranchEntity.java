@@ -3,7 +3,6 @@ package com.graph.graphservice.entity;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -26,9 +25,9 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor
 @Table(name = "contract_branch")
-public class ContractBranchEntity {
+public class ContractBranchEntity extends PersistableEntity implements ContractAggregateMember {
   @Id
-  @Column(columnDefinition = "UUID default gen_random_uuid()")
+  @UuidV7Id
   private UUID id;
 
   @Enumerated(EnumType.STRING)
@@ -3,7 +3,6 @@ package com.graph.graphservice.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
@@ -24,9 +23,9 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor
 @Table(name = "contract_detail")
-public class ContractDetailEntity {
+public class ContractDetailEntity extends PersistableEntity implements ContractAggregateMember {
   @Id
-  @Column(columnDefinition = "UUID default gen_random_uuid()")
+  @UuidV7Id
   private UUID id;
 
   private LocalDateTime startDate;
@@ -1,10 +1,11 @@
 package com.graph.graphservice.entity;
 
+import java.math.BigDecimal;
 import java.util.Set;
 import java.util.UUID;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -13,21 +14,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.LazyGroup;
+
 @Getter
 @Setter
 @Entity
 @SuperBuilder
 @NoArgsConstructor
 @Table(name = "contract")
-public class ContractEntity {
+public class ContractEntity extends PersistableEntity {
   @Id
-  @Column(columnDefinition = "UUID default gen_random_uuid()")
+  @UuidV7Id
   private UUID id;
 
   private String contractName;
@@ -38,12 +43,44 @@ public class ContractEntity {
   @Enumerated(EnumType.STRING)
   private ContractStatusEnum contractStatus;
 
+  // Aggregate version'ı: child değişikliklerinde de artar (ContractAggregateVersionListener)
+  @Version
+  private Long version;
+
   @OneToMany(mappedBy = "contract", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   private Set<ContractBranchEntity> coverages;
 
   @OneToMany(mappedBy = "contract", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   private Set<LayerEntity> layers;
 
-  @OneToOne(mappedBy = "contract", cascade = CascadeType.ALL)
+  // Inverse taraf proxy'lenemez, lazy olması bytecode enhancement ile sağlanıyor
+  @OneToOne(mappedBy = "contract", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   private ContractDetailEntity contractDetail;
+
+  // Aggregate'ler DB'de hesaplanır, child satırlar yüklenmez. Dynamic projection'da sadece seçilince çalışır,
+  // entity yolunda ise biri okununca grup tek select ile yüklenir
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("aggregates")
+  @Formula("(select coalesce(sum(cb.premium_amount), 0) from {h-schema}contract_branch cb where cb.contract_id = id)")
+  private BigDecimal totalPremium;
+
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("aggregates")
+  @Formula("(select count(*) from {h-schema}layer l where l.contract_id = id)")
+  private Integer layerCount;
+
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("aggregates")
+  @Formula("(select count(*) from {h-schema}reinstatement r where r.contract_id = id)")
+  private Integer reinstatementCount;
+
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("aggregates")
+  @Formula("(select coalesce(sum(l.loss_limit_amount), 0) from {h-schema}layer l where l.contract_id = id)")
+  private BigDecimal totalLossLimit;
+
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("aggregates")
+  @Formula("(select coalesce(sum(l.deductible_amount), 0) from {h-schema}layer l where l.contract_id = id)")
+  private BigDecimal totalDeductible;
 }
@@ -0,0 +1,45 @@
+package com.graph.graphservice.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// Sadece ContractSummaryWriter yazar, uygulama tarafından değiştirilmez
+@Getter
+@Setter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "contract_summary")
+public class ContractSummaryEntity {
+  @Id
+  private UUID contractId;
+
+  private String contractNo;
+  private String contractName;
+
+  @Enumerated(EnumType.STRING)
+  private ContractStatusEnum contractStatus;
+
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  private String[] branches;
+
+  private LocalDateTime startDate;
+  private LocalDateTime endDate;
+  private BigDecimal totalPremium;
+  private Integer layerCount;
+}
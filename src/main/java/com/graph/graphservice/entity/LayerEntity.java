@@ -4,8 +4,8 @@ import java.math.BigDecimal;
 import java.util.Set;
 import java.util.UUID;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
@@ -21,22 +21,31 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import org.hibernate.annotations.LazyGroup;
+
 @Getter
 @Setter
 @Entity
 @SuperBuilder
 @NoArgsConstructor
 @Table(name = "layer")
-public class LayerEntity {
+public class LayerEntity extends PersistableEntity implements ContractAggregateMember {
   @Id
-  @Column(columnDefinition = "UUID default gen_random_uuid()")
+  @UuidV7Id
   private UUID id;
 
   private int layerOrder;
 
   private BigDecimal lossLimitAmount;
-  private BigDecimal lossLimitAmountRc;
   private BigDecimal deductibleAmount;
+
+  // Reporting currency tutarları nadiren okunur, ayrı grupta ilk erişimde yüklenir
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("rc")
+  private BigDecimal lossLimitAmountRc;
+
+  @Basic(fetch = FetchType.LAZY)
+  @LazyGroup("rc")
   private BigDecimal deductibleAmountRc;
 
   @OneToMany(mappedBy = "layer", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
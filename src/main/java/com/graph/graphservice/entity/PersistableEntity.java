@@ -0,0 +1,42 @@
+package com.graph.graphservice.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Ids are assigned by the application, so Spring Data cannot tell new entities from detached ones by
+ * a null id and would {@code merge} (SELECT before INSERT) every one of them. Entities start out new
+ * and are flipped once they are loaded or persisted, which lets {@code save}/{@code saveAll} go
+ * straight to {@code persist}.
+ */
+@MappedSuperclass
+@SuperBuilder
+@NoArgsConstructor
+public abstract class PersistableEntity implements Persistable<UUID> {
+  @Transient
+  @JsonIgnore
+  private boolean persisted;
+
+  @Override
+  @JsonIgnore
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    this.persisted = true;
+  }
+}
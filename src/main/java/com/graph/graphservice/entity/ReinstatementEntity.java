@@ -3,7 +3,6 @@ package com.graph.graphservice.entity;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
@@ -25,9 +24,9 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @NoArgsConstructor
 @Table(name = "reinstatement")
-public class ReinstatementEntity {
+public class ReinstatementEntity extends PersistableEntity implements ContractAggregateMember {
   @Id
-  @Column(columnDefinition = "UUID default gen_random_uuid()")
+  @UuidV7Id
   private UUID id;
 
   private int reinstatementOrder;
@@ -0,0 +1,34 @@
+package com.graph.graphservice.entity;
+
+import java.util.EnumSet;
+
+import com.graph.graphservice.utils.UuidV7;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session,
+                         Object owner,
+                         Object currentValue,
+                         EventType eventType) {
+    return currentValue != null ? currentValue : UuidV7.next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+  /**
+   * Ids are usually assigned up front (see {@link PersistableEntity}); those must be kept as they are.
+   */
+  @Override
+  public boolean allowAssignedIdentifiers() {
+    return true;
+  }
+}
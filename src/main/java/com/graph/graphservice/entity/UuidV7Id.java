@@ -0,0 +1,17 @@
+package com.graph.graphservice.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates a {@link com.graph.graphservice.utils.UuidV7} id on insert unless one was already assigned.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UuidV7Id {
+}
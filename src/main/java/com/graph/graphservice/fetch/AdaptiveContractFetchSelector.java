@@ -0,0 +1,180 @@
+package com.graph.graphservice.fetch;
+
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.graph.graphservice.dto.ContractFetchStat;
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.mapper.ContractMapper;
+import com.graph.graphservice.utils.FieldNodeUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes each {@code contract(id)} request to a {@link ContractFetchStrategy}. Latency (fetch plus
+ * mapping) and returned rows are kept as moving averages per selection
+ * shape and strategy. Every strategy first gets a few warm-up samples per shape, then the fastest one
+ * serves the shape, except for a small share of requests that keeps the others' numbers fresh.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdaptiveContractFetchSelector {
+  private static final String OVERFLOW_SHAPE = "*";
+  // Hata, şeklin başarılı en yavaş stratejisinin bu katı kadar sayılır: hızlı hata veren strateji
+  // yavaş ama başarılı olanın önüne geçmez
+  private static final double FAILURE_PENALTY = 10;
+
+  private final List<ContractFetchStrategy> strategies;
+  private final FetchStrategyProperties properties;
+
+  private final Map<String, Map<String, Stats>> statsByShape = new ConcurrentHashMap<>();
+
+  public ContractResponse fetch(UUID contractId, String pinned, DataFetchingEnvironment env) {
+    FieldNode selection = FieldNodeUtil.buildFieldTree(env.getSelectionSet(), "contract");
+    String shape = shapeKey(FetchShapes.shapeOf(selection));
+    ContractFetchStrategy strategy = select(shape, selection, pinned != null ? pinned : properties.pinned());
+
+    Stats stats = statsByShape.get(shape).computeIfAbsent(strategy.name(), name -> new Stats());
+    long start = System.nanoTime();
+    try {
+      ContractEntity contractEntity = strategy.fetch(new ContractFetchRequest(contractId, env, selection));
+      ContractResponse response = ContractMapper.INSTANCE.toModel(contractEntity);
+      stats.record(elapsedMillis(start), FetchShapes.rows(response), properties.smoothing());
+      return response;
+    } catch (RuntimeException e) {
+      stats.fail(failurePenaltyMillis(shape, strategy, elapsedMillis(start)), properties.smoothing());
+      throw e;
+    }
+  }
+
+  public List<ContractFetchStat> stats() {
+    List<ContractFetchStat> result = new ArrayList<>();
+    statsByShape.forEach((shape, byStrategy) -> {
+      String preferred = fastest(byStrategy);
+      byStrategy.forEach((strategy, stats) -> result.add(ContractFetchStat.builder()
+          .shape(shape)
+          .strategy(strategy)
+          .samples(stats.samples)
+          .failures(stats.failures)
+          .latencyMillis(stats.latencyMillis)
+          .rows(stats.rows)
+          .preferred(strategy.equals(preferred))
+          .build()));
+    });
+    result.sort(Comparator.comparing(ContractFetchStat::shape).thenComparing(ContractFetchStat::latencyMillis));
+    return result;
+  }
+
+  private ContractFetchStrategy select(String shape, FieldNode selection, String pinned) {
+    if (pinned != null) {
+      ContractFetchStrategy strategy = strategies.stream()
+          .filter(candidate -> candidate.name().equals(pinned))
+          .findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("Unknown fetch strategy: " + pinned));
+      if (!strategy.supports(selection)) {
+        throw new IllegalArgumentException("Fetch strategy " + pinned + " does not support this selection");
+      }
+      return strategy;
+    }
+
+    List<ContractFetchStrategy> candidates = strategies.stream()
+        .filter(candidate -> candidate.supports(selection))
+        .toList();
+    if (candidates.isEmpty()) {
+      throw new IllegalStateException("No fetch strategy supports this selection");
+    }
+
+    Map<String, Stats> byStrategy = statsByShape.get(shape);
+    ContractFetchStrategy warmingUp = candidates.stream()
+        .filter(candidate -> samples(byStrategy, candidate) < properties.warmupSamples())
+        .min(Comparator.comparingLong(candidate -> samples(byStrategy, candidate)))
+        .orElse(null);
+    if (warmingUp != null) {
+      return warmingUp;
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (candidates.size() > 1 && random.nextDouble() < properties.explorationRate()) {
+      return candidates.get(random.nextInt(candidates.size()));
+    }
+    return candidates.stream()
+        .min(Comparator.comparingDouble(candidate -> latencyMillis(byStrategy, candidate)))
+        .orElseThrow();
+  }
+
+  private String shapeKey(String shape) {
+    if (!statsByShape.containsKey(shape) && statsByShape.size() >= properties.maxShapes()) {
+      shape = OVERFLOW_SHAPE;
+    }
+    statsByShape.computeIfAbsent(shape, key -> new ConcurrentHashMap<>());
+    return shape;
+  }
+
+  private long samples(Map<String, Stats> byStrategy, ContractFetchStrategy strategy) {
+    Stats stats = byStrategy.get(strategy.name());
+    return stats != null ? stats.samples : 0;
+  }
+
+  private double latencyMillis(Map<String, Stats> byStrategy, ContractFetchStrategy strategy) {
+    Stats stats = byStrategy.get(strategy.name());
+    return stats != null ? stats.latencyMillis : 0;
+  }
+
+  private String fastest(Map<String, Stats> byStrategy) {
+    return byStrategy.entrySet().stream()
+        .min(Comparator.comparingDouble(entry -> entry.getValue().latencyMillis))
+        .map(Map.Entry::getKey)
+        .orElse(null);
+  }
+
+  // Diğer stratejilerin sadece başarılı örneklerine bakılır, birbirinin cezasını büyüten hatalar olmaz
+  private double failurePenaltyMillis(String shape, ContractFetchStrategy failed, double elapsedMillis) {
+    double slowestSuccess = statsByShape.get(shape).entrySet().stream()
+        .filter(entry -> !entry.getKey().equals(failed.name()))
+        .mapToDouble(entry -> entry.getValue().successLatencyMillis)
+        .max()
+        .orElse(0);
+    return Math.max(elapsedMillis, slowestSuccess) * FAILURE_PENALTY;
+  }
+
+  private double elapsedMillis(long start) {
+    return (System.nanoTime() - start) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  private static final class Stats {
+    private volatile long samples;
+    private volatile long failures;
+    private volatile double latencyMillis;
+    private volatile double successLatencyMillis;
+    private volatile double rows;
+
+    synchronized void record(double millis, long resultRows, double smoothing) {
+      latencyMillis = samples == 0 ? millis : latencyMillis + smoothing * (millis - latencyMillis);
+      successLatencyMillis = samples == failures
+          ? millis
+          : successLatencyMillis + smoothing * (millis - successLatencyMillis);
+      rows = samples == 0 ? resultRows : rows + smoothing * (resultRows - rows);
+      samples++;
+    }
+
+    synchronized void fail(double penaltyMillis, double smoothing) {
+      failures++;
+      latencyMillis = samples == 0 ? penaltyMillis : latencyMillis + smoothing * (penaltyMillis - latencyMillis);
+      samples++;
+    }
+  }
+}
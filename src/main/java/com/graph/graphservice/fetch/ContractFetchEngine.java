@@ -0,0 +1,71 @@
+package com.graph.graphservice.fetch;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.graph.graphservice.deadline.QueryDeadline;
+import com.graph.graphservice.deadline.QueryDeadlineExceededException;
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.mapper.ContractMapper;
+import com.graph.graphservice.plan.QueryPlanner;
+import com.graph.graphservice.plan.ReactivePlanExecutor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * The dynamic contract queries on the {@link FetchEngine} of the deployment. With R2DBC the selection is
+ * planned like {@code getContractDynamicSqlV4} and the contracts are streamed as their rows arrive; with
+ * JDBC callers keep their blocking JPA path.
+ */
+@Component
+public class ContractFetchEngine {
+  private final FetchEngine engine;
+  private final QueryPlanner queryPlanner;
+  private final ReactivePlanExecutor reactivePlanExecutor;
+
+  public ContractFetchEngine(FetchStrategyProperties properties,
+                             QueryPlanner queryPlanner,
+                             ObjectProvider<ReactivePlanExecutor> reactivePlanExecutor) {
+    this.engine = properties.engine();
+    this.queryPlanner = queryPlanner;
+    this.reactivePlanExecutor = reactivePlanExecutor.getIfAvailable();
+  }
+
+  public boolean isReactive() {
+    return engine == FetchEngine.R2DBC;
+  }
+
+  /**
+   * Contracts in the order of {@code contractIds}, missing ones skipped. Only for the R2DBC engine.
+   */
+  public Flux<ContractResponse> findContracts(List<UUID> contractIds, FieldNode selection, QueryDeadline deadline) {
+    if (!isReactive()) {
+      throw new IllegalStateException("graph.fetch.engine is " + engine);
+    }
+    if (contractIds.isEmpty()) {
+      return Flux.empty();
+    }
+    if (deadline != null) {
+      deadline.check();
+    }
+
+    Flux<ContractResponse> contracts = reactivePlanExecutor
+        .<ContractEntity>execute(queryPlanner.plan(selection, ContractEntity.class, contractIds.size()), contractIds)
+        .map(ContractMapper.INSTANCE::toModel);
+    if (deadline == null || deadline.getTimeout() == null) {
+      return contracts;
+    }
+    // Süre dolunca akış kesilir, iptal edilen sorgunun bağlantısı havuza döner
+    return contracts
+        .takeUntilOther(Mono.delay(deadline.remaining()))
+        .concatWith(Mono.defer(() -> deadline.isExceeded()
+            ? Mono.error(new QueryDeadlineExceededException(deadline.describe()))
+            : Mono.empty()));
+  }
+}
@@ -0,0 +1,17 @@
+package com.graph.graphservice.fetch;
+
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.UUID;
+
+import com.graph.graphservice.dto.FieldNode;
+
+/**
+ * @param selection field tree of {@code env}, built once and shared by the selector and the strategies
+ */
+public record ContractFetchRequest(
+    UUID contractId,
+    DataFetchingEnvironment env,
+    FieldNode selection
+) {
+}
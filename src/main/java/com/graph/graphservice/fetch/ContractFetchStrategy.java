@@ -0,0 +1,20 @@
+package com.graph.graphservice.fetch;
+
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+
+/**
+ * One way of loading a contract for a GraphQL selection. Every Spring bean implementing it is a
+ * candidate for {@link AdaptiveContractFetchSelector}; {@link #name()} is what clients pin with.
+ */
+public interface ContractFetchStrategy {
+
+  String name();
+
+  // Bazı eski engine'ler her ilişkiyi bilmiyor, seçim onları hiç denememeli
+  default boolean supports(FieldNode selection) {
+    return true;
+  }
+
+  ContractEntity fetch(ContractFetchRequest request);
+}
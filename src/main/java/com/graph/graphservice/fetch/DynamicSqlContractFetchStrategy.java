@@ -0,0 +1,56 @@
+package com.graph.graphservice.fetch;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.repository.DynamicContractRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DynamicSqlContractFetchStrategy implements ContractFetchStrategy {
+  private final DynamicContractRepository dynamicContractRepository;
+
+  @Override
+  public String name() {
+    return "dynamic-sql";
+  }
+
+  // Her satır ayrı bir layer üretiyor (tekilleştirme yok), reinstatement'lı seçimlerde sonuç yanlış olur
+  @Override
+  public boolean supports(FieldNode selection) {
+    return !FetchShapes.selects(selection, "coverages")
+        && FetchShapes.child(FetchShapes.child(selection, "layers"), "reinstatements") == null;
+  }
+
+  @Override
+  public ContractEntity fetch(ContractFetchRequest request) {
+    Set<String> contractFields = new HashSet<>();
+    Set<String> detailFields = new HashSet<>();
+    Set<String> layerFields = new HashSet<>();
+    Set<String> reinFields = new HashSet<>();
+
+    request.env().getSelectionSet().getFields().forEach(field -> {
+      String path = field.getQualifiedName(); // örn: "layers/reinstatements/reinstatementOrder"
+
+      if (path.startsWith("layers/reinstatements/")) {
+        reinFields.add(path.replace("layers/reinstatements/", ""));
+      } else if (path.startsWith("layers/")) {
+        layerFields.add(path.replace("layers/", ""));
+      } else if (path.startsWith("contractDetail/")) {
+        detailFields.add(path.replace("contractDetail/", ""));
+      } else if (!"layers".equals(path) && !"contractDetail".equals(path)) {
+        contractFields.add(field.getName());
+      }
+    });
+
+    return dynamicContractRepository.findContractDynamic(
+        request.contractId(), contractFields, detailFields, layerFields, reinFields
+    );
+  }
+}
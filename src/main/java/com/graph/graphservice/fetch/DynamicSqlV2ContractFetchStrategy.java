@@ -0,0 +1,62 @@
+package com.graph.graphservice.fetch;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.repository.DynamicContractRepositoryV2;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DynamicSqlV2ContractFetchStrategy implements ContractFetchStrategy {
+  private final DynamicContractRepositoryV2 dynamicContractRepositoryV2;
+
+  @Override
+  public String name() {
+    return "dynamic-sql-v2";
+  }
+
+  // Satırları layer_id / reinstatement_id ile grupluyor, bu yüzden id'ler seçilmiş olmalı
+  @Override
+  public boolean supports(FieldNode selection) {
+    FieldNode layers = FetchShapes.child(selection, "layers");
+    FieldNode reinstatements = FetchShapes.child(layers, "reinstatements");
+    return !FetchShapes.selects(selection, "coverages")
+        && (layers == null || FetchShapes.child(layers, "id") != null)
+        && (reinstatements == null || FetchShapes.child(reinstatements, "id") != null);
+  }
+
+  @Override
+  public ContractEntity fetch(ContractFetchRequest request) {
+    Set<String> contractFields = new HashSet<>();
+    Set<String> layerFields = new HashSet<>();
+    Set<String> reinstatementFields = new HashSet<>();
+    Set<String> contractDetailFields = new HashSet<>();
+
+    request.env().getSelectionSet().getFields().forEach(field -> {
+      String path = field.getQualifiedName();
+
+      if (path.startsWith("layers/")) {
+        String remainingPath = path.replace("layers/", "");
+        if (remainingPath.startsWith("reinstatements/")) {
+          reinstatementFields.add(remainingPath.replace("reinstatements/", ""));
+        } else if (!"reinstatements".equals(remainingPath)) {
+          // "layers/reinstatements" yolunun kendisi layer field'ı değil, collection'ı seçip satırları çoğaltıyordu
+          layerFields.add(remainingPath);
+        }
+      } else if (path.startsWith("contractDetail/")) {
+        contractDetailFields.add(path.replace("contractDetail/", ""));
+      } else if (!"layers".equals(path) && !"contractDetail".equals(path)) {
+        contractFields.add(field.getName());
+      }
+    });
+
+    return dynamicContractRepositoryV2.findContractDynamic(
+        request.contractId(), contractFields, layerFields, reinstatementFields, contractDetailFields);
+  }
+}
@@ -0,0 +1,31 @@
+package com.graph.graphservice.fetch;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.repository.DynamicContractRepositoryV3;
+import com.graph.graphservice.utils.GraphQLFieldCollector;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DynamicSqlV3ContractFetchStrategy implements ContractFetchStrategy {
+  private final DynamicContractRepositoryV3 dynamicContractRepositoryV3;
+
+  @Override
+  public String name() {
+    return "dynamic-sql-v3";
+  }
+
+  @Override
+  public ContractEntity fetch(ContractFetchRequest request) {
+    // GraphQLFieldCollector kullanılarak seçilen field'lar toplanıyor
+    Map<Class<?>, Set<String>> selectedFields = GraphQLFieldCollector.collectFields(request.env(), ContractEntity.class);
+
+    return dynamicContractRepositoryV3.findEntityDynamic(request.contractId(), ContractEntity.class, selectedFields);
+  }
+}
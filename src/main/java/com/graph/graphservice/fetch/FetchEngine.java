@@ -0,0 +1,15 @@
+package com.graph.graphservice.fetch;
+
+/**
+ * How the dynamic contract queries reach the database, chosen per deployment with {@code graph.fetch.engine}.
+ */
+public enum FetchEngine {
+  /**
+   * Blocking JPA/JDBC on the request thread, one pooled Hikari connection per running query.
+   */
+  JDBC,
+  /**
+   * The planner's SQL over R2DBC; the request thread is released while the query runs.
+   */
+  R2DBC
+}
@@ -0,0 +1,62 @@
+package com.graph.graphservice.fetch;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.dto.LayerResponse;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class FetchShapes {
+
+  /**
+   * Canonical form of a selection, independent of field order and aliases: {@code a,b{c,d}}.
+   * Requests with the same shape hit the same tables with the same joins.
+   */
+  public String shapeOf(FieldNode node) {
+    if (node.getChildren() == null || node.getChildren().isEmpty()) {
+      return node.getName();
+    }
+    return node.getName() + node.getChildren().stream()
+        .sorted(Comparator.comparing(FieldNode::getName))
+        .map(FetchShapes::shapeOf)
+        .distinct()
+        .collect(Collectors.joining(",", "{", "}"));
+  }
+
+  boolean selects(FieldNode node, String name) {
+    if (node.getChildren() == null) {
+      return false;
+    }
+    return node.getChildren().stream().anyMatch(child -> child.getName().equals(name) || selects(child, name));
+  }
+
+  FieldNode child(FieldNode node, String name) {
+    if (node == null || node.getChildren() == null) {
+      return null;
+    }
+    return node.getChildren().stream().filter(child -> child.getName().equals(name)).findFirst().orElse(null);
+  }
+
+  // Cevaptaki entity sayısı: kabaca okunan satır sayısı
+  long rows(ContractResponse response) {
+    if (response == null) {
+      return 0;
+    }
+    long rows = 1 + size(response.coverages()) + (response.contractDetail() != null ? 1 : 0);
+    if (response.layers() != null) {
+      for (LayerResponse layer : response.layers()) {
+        rows += 1 + size(layer.reinstatements());
+      }
+    }
+    return rows;
+  }
+
+  private int size(List<?> list) {
+    return list != null ? list.size() : 0;
+  }
+}
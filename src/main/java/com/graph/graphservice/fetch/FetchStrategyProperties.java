@@ -0,0 +1,25 @@
+package com.graph.graphservice.fetch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param explorationRate share of requests sent to a random non-best strategy so its latency stays current
+ * @param warmupSamples   samples every strategy gets for a shape before latencies are compared
+ * @param smoothing       weight of the newest sample in the moving averages
+ * @param maxShapes       shapes tracked individually; the rest share one entry
+ * @param pinned          strategy used for every request, bypassing selection (debugging)
+ * @param engine          engine of getContractDynamicSqlV3 and searchContracts (see {@link FetchEngine})
+ * @param r2dbcPoolSize   connections of the R2DBC pool, only created with {@code engine=r2dbc}
+ */
+@ConfigurationProperties(prefix = "graph.fetch")
+public record FetchStrategyProperties(
+    @DefaultValue("0.05") double explorationRate,
+    @DefaultValue("3") int warmupSamples,
+    @DefaultValue("0.2") double smoothing,
+    @DefaultValue("1000") int maxShapes,
+    String pinned,
+    @DefaultValue("jdbc") FetchEngine engine,
+    @DefaultValue("2") int r2dbcPoolSize
+) {
+}
@@ -0,0 +1,28 @@
+package com.graph.graphservice.fetch;
+
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.service.ContractQueryService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Enhanced entities through {@link ContractQueryService}: the selected part of the aggregate, with
+ * collections batch fetched.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaContractFetchStrategy implements ContractFetchStrategy {
+  private final ContractQueryService contractQueryService;
+
+  @Override
+  public String name() {
+    return "jpa";
+  }
+
+  @Override
+  public ContractEntity fetch(ContractFetchRequest request) {
+    return contractQueryService.loadContract(request.contractId(), request.selection());
+  }
+}
@@ -0,0 +1,27 @@
+package com.graph.graphservice.fetch;
+
+import java.util.List;
+
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.service.ContractPlanService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PlannedContractFetchStrategy implements ContractFetchStrategy {
+  private final ContractPlanService contractPlanService;
+
+  @Override
+  public String name() {
+    return "planner";
+  }
+
+  @Override
+  public ContractEntity fetch(ContractFetchRequest request) {
+    List<ContractEntity> contracts = contractPlanService.findContracts(List.of(request.contractId()), request.selection());
+    return contracts.isEmpty() ? null : contracts.get(0);
+  }
+}
@@ -0,0 +1,57 @@
+package com.graph.graphservice.fetch;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+import com.graph.graphservice.plan.ReactivePlanExecutor;
+import com.graph.graphservice.plan.SqlPlanRenderer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * R2DBC connections for {@code graph.fetch.engine=r2dbc}, to the database of {@code spring.datasource}.
+ * The pool is deliberately not a {@code ConnectionFactory} bean: Boot skips the JDBC DataSource when it
+ * finds one, and JPA still needs it (R2DBC auto-configuration is excluded for the same reason).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "graph.fetch", name = "engine", havingValue = "r2dbc")
+public class R2dbcFetchEngineConfig implements DisposableBean {
+  private ConnectionPool pool;
+
+  @Bean
+  public ReactivePlanExecutor reactivePlanExecutor(DataSourceProperties dataSourceProperties,
+                                                   FetchStrategyProperties properties,
+                                                   SqlPlanRenderer renderer) {
+    ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl(dataSourceProperties.determineUrl()))
+        .mutate()
+        .option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername())
+        .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword())
+        .build();
+    pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+        .initialSize(0)
+        .maxSize(properties.r2dbcPoolSize())
+        .name("fetch-r2dbc")
+        .build());
+    return new ReactivePlanExecutor(pool, renderer);
+  }
+
+  @Override
+  public void destroy() {
+    if (pool != null) {
+      pool.dispose();
+    }
+  }
+
+  // jdbc:postgresql://host:port/db?... -> r2dbc:postgresql://host:port/db; JDBC'ye özel parametreler atılır
+  private String r2dbcUrl(String jdbcUrl) {
+    String url = jdbcUrl.startsWith("jdbc:") ? "r2dbc:" + jdbcUrl.substring("jdbc:".length()) : jdbcUrl;
+    int query = url.indexOf('?');
+    return query >= 0 ? url.substring(0, query) : url;
+  }
+}
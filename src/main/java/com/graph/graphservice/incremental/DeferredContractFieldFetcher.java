@@ -0,0 +1,33 @@
+package com.graph.graphservice.incremental;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.graph.graphservice.dto.ContractResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads a deferrable {@code Contract} field from the parent like the default property fetcher does,
+ * unless the root fetcher left it out because it was deferred. Then the field comes from
+ * {@link DeferredContractLoader}.
+ */
+@RequiredArgsConstructor
+class DeferredContractFieldFetcher implements DataFetcher<Object> {
+  private final DeferredContractLoader loader;
+  private final String field;
+  private final Function<ContractResponse, Object> accessor;
+
+  @Override
+  public Object get(DataFetchingEnvironment env) {
+    CompletableFuture<ContractResponse> deferred = loader.loadDeferred(env, field);
+    if (deferred == null) {
+      return accessor.apply(env.getSource());
+    }
+    ContractResponse source = env.getSource();
+    return deferred.thenApply(contract -> accessor.apply(contract != null ? contract : source));
+  }
+}
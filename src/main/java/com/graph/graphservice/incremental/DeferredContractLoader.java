@@ -0,0 +1,211 @@
+package com.graph.graphservice.incremental;
+
+import graphql.Directives;
+import graphql.ExperimentalApi;
+import graphql.language.Argument;
+import graphql.language.BooleanValue;
+import graphql.language.Directive;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.service.ContractQueryService;
+import com.graph.graphservice.utils.FieldNodeUtil;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits a contract query at its {@code @defer} fragments. Deferred subtrees ({@code coverages},
+ * {@code layers}, {@code contractDetail}) are left out of the root fetch, so the initial payload only
+ * waits for the header. When graphql-java resolves a deferred fragment, the field is loaded with a
+ * separate query for every contract of the root field at once, and the other list items read it from
+ * that result.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeferredContractLoader {
+  static final Set<String> DEFERRABLE_FIELDS = Set.of("coverages", "layers", "contractDetail");
+  private static final String IF_ARGUMENT = "if";
+
+  private final ContractQueryService contractQueryService;
+
+  public ContractResponse loadOne(DataFetchingEnvironment env, String rootName,
+                                  Function<FieldNode, ContractResponse> loader) {
+    FieldNode selection = FieldNodeUtil.buildFieldTree(env.getSelectionSet(), rootName);
+    Map<String, List<FieldNode>> deferred = detachDeferred(env, selection);
+    ContractResponse contract = loader.apply(selection);
+    register(env, rootName, deferred, contract != null ? List.of(contract) : List.of());
+    return contract;
+  }
+
+  public List<ContractResponse> loadAll(DataFetchingEnvironment env, String rootName,
+                                        Function<FieldNode, List<ContractResponse>> loader) {
+    FieldNode selection = FieldNodeUtil.buildFieldTree(env.getSelectionSet(), rootName);
+    Map<String, List<FieldNode>> deferred = detachDeferred(env, selection);
+    List<ContractResponse> contracts = loader.apply(selection);
+    register(env, rootName, deferred, contracts);
+    return contracts;
+  }
+
+  /**
+   * @return the contract with {@code field} loaded when the field was deferred under the current root
+   * field, otherwise null and the field is read from the parent. The future completes with null when the
+   * contract is no longer found.
+   */
+  CompletableFuture<ContractResponse> loadDeferred(DataFetchingEnvironment env, String field) {
+    Map<String, DeferredContracts> byRoot = env.getGraphQlContext().get(DeferredContracts.class);
+    DeferredContracts deferred = byRoot != null ? byRoot.get(rootKey(env)) : null;
+    if (deferred == null || !deferred.fields().containsKey(field)) {
+      return null;
+    }
+    ContractResponse source = env.getSource();
+    return deferred.load(field, contractQueryService).thenApply(contracts -> contracts.get(source.id()));
+  }
+
+  // Ertelenen alt ağaçlar root seçiminden çıkarılıp ayrı tutulur
+  private Map<String, List<FieldNode>> detachDeferred(DataFetchingEnvironment env, FieldNode selection) {
+    Set<String> deferredNames = deferredFieldNames(env);
+    Map<String, List<FieldNode>> deferred = new LinkedHashMap<>();
+    if (deferredNames.isEmpty() || selection.getChildren() == null) {
+      return deferred;
+    }
+
+    List<FieldNode> initial = new ArrayList<>();
+    for (FieldNode child : selection.getChildren()) {
+      if (deferredNames.contains(child.getName())) {
+        deferred.computeIfAbsent(child.getName(), name -> new ArrayList<>()).add(child);
+      } else {
+        initial.add(child);
+      }
+    }
+    selection.setChildren(initial);
+    return deferred;
+  }
+
+  private void register(DataFetchingEnvironment env, String rootName, Map<String, List<FieldNode>> deferred,
+                        List<ContractResponse> contracts) {
+    if (deferred.isEmpty()) {
+      return;
+    }
+    List<UUID> contractIds = contracts.stream()
+        .filter(Objects::nonNull)
+        .map(ContractResponse::id)
+        .toList();
+    Map<String, DeferredContracts> byRoot = env.getGraphQlContext()
+        .computeIfAbsent(DeferredContracts.class, key -> new ConcurrentHashMap<String, DeferredContracts>());
+    byRoot.put(rootKey(env), new DeferredContracts(rootName, deferred, contractIds, new ConcurrentHashMap<>()));
+  }
+
+  // Incremental delivery kapalıysa graphql-java @defer'i yok sayar, her şey ilk yanıtta gelmeli
+  private Set<String> deferredFieldNames(DataFetchingEnvironment env) {
+    if (!env.getGraphQlContext().getBoolean(ExperimentalApi.ENABLE_INCREMENTAL_SUPPORT, false)) {
+      return Set.of();
+    }
+
+    Set<String> deferred = new HashSet<>();
+    Set<String> eager = new HashSet<>();
+    for (Field field : env.getMergedField().getFields()) {
+      collect(field.getSelectionSet(), false, env, deferred, eager);
+    }
+    // Ertelenmeyen bir seçimde de geçen field ilk yanıtta yer alır
+    deferred.removeAll(eager);
+    deferred.retainAll(DEFERRABLE_FIELDS);
+    return deferred;
+  }
+
+  private void collect(SelectionSet selectionSet, boolean inDeferred, DataFetchingEnvironment env,
+                       Set<String> deferred, Set<String> eager) {
+    if (selectionSet == null) {
+      return;
+    }
+    for (Selection<?> selection : selectionSet.getSelections()) {
+      if (selection instanceof Field field) {
+        (inDeferred ? deferred : eager).add(field.getName());
+      } else if (selection instanceof InlineFragment fragment) {
+        collect(fragment.getSelectionSet(), inDeferred || isDeferred(fragment.getDirectives(), env),
+            env, deferred, eager);
+      } else if (selection instanceof FragmentSpread spread) {
+        FragmentDefinition definition = env.getFragmentsByName().get(spread.getName());
+        if (definition != null) {
+          collect(definition.getSelectionSet(), inDeferred || isDeferred(spread.getDirectives(), env),
+              env, deferred, eager);
+        }
+      }
+    }
+  }
+
+  private boolean isDeferred(List<Directive> directives, DataFetchingEnvironment env) {
+    return directives.stream()
+        .filter(directive -> Directives.DeferDirective.getName().equals(directive.getName()))
+        .anyMatch(directive -> {
+          Argument condition = directive.getArgument(IF_ARGUMENT);
+          return condition == null || isTrue(condition.getValue(), env);
+        });
+  }
+
+  private boolean isTrue(Value<?> value, DataFetchingEnvironment env) {
+    if (value instanceof BooleanValue booleanValue) {
+      return booleanValue.isValue();
+    }
+    if (value instanceof VariableReference reference) {
+      return !Boolean.FALSE.equals(env.getVariables().get(reference.getName()));
+    }
+    return true;
+  }
+
+  // Aynı operasyonda birden fazla root field (alias) olabilir, her biri kendi ertelenen alanlarını taşır
+  private String rootKey(DataFetchingEnvironment env) {
+    return String.valueOf(env.getExecutionStepInfo().getPath().toList().get(0));
+  }
+
+  private record DeferredContracts(String rootName,
+                                   Map<String, List<FieldNode>> fields,
+                                   List<UUID> contractIds,
+                                   Map<String, CompletableFuture<Map<UUID, ContractResponse>>> loaded) {
+
+    // Listedeki her contract için ayrı değil, root field'ın tüm contract'ları için bir kez yüklenir
+    // (findContracts id'leri parça parça sorgular). Sorgu map kilidi dışında, ilk gelen fetcher'ın
+    // thread'inde çalışır; diğer liste elemanları aynı future'ı bekler
+    CompletableFuture<Map<UUID, ContractResponse>> load(String field, ContractQueryService contractQueryService) {
+      CompletableFuture<Map<UUID, ContractResponse>> created = new CompletableFuture<>();
+      CompletableFuture<Map<UUID, ContractResponse>> existing = loaded.putIfAbsent(field, created);
+      if (existing != null) {
+        return existing;
+      }
+      try {
+        FieldNode selection = FieldNode.builder()
+            .name(rootName)
+            .children(fields.get(field))
+            .build();
+        created.complete(contractQueryService.findContracts(contractIds, selection).stream()
+            .collect(Collectors.toMap(ContractResponse::id, Function.identity())));
+      } catch (RuntimeException e) {
+        created.completeExceptionally(e);
+      }
+      return created;
+    }
+  }
+}
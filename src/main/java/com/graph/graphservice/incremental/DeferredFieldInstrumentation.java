@@ -0,0 +1,86 @@
+package com.graph.graphservice.incremental;
+
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+
+import com.graph.graphservice.deadline.QueryDeadline;
+import com.graph.graphservice.routing.ReplicaRoute;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * graphql-java starts the next deferred fragment from the completion callback of the previous one. When
+ * the fragments complete synchronously, every deferred list item adds stack frames, a list of a few
+ * thousand contracts overflows the stack and the remaining payloads are never published. Fields directly
+ * under {@code @defer} are still fetched in place, only their result is handed over through an executor,
+ * so the drain loop moves on to the next fragment instead of recursing. The continuation starts the
+ * fetchers of the next fragment, so the operation's deadline and replica route are bound for it.
+ */
+@Component
+public class DeferredFieldInstrumentation extends SimplePerformantInstrumentation {
+  private final ExecutorService completions;
+
+  public DeferredFieldInstrumentation(IncrementalDeliveryProperties properties) {
+    this.completions = Executors.newFixedThreadPool(properties.completionThreads(), Thread.ofPlatform()
+        .name("deferred-field-completion-", 0)
+        .daemon(true)
+        .factory());
+  }
+
+  @Override
+  public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                             InstrumentationFieldFetchParameters parameters,
+                                             InstrumentationState state) {
+    if (!parameters.getExecutionContext().hasIncrementalSupport()
+        || !parameters.getExecutionStepInfo().getField().isDeferred()) {
+      return dataFetcher;
+    }
+    return env -> {
+      CompletableFuture<?> result;
+      try {
+        Object value = dataFetcher.get(env);
+        result = value instanceof CompletionStage<?> stage
+            ? stage.toCompletableFuture()
+            : CompletableFuture.completedFuture(value);
+      } catch (Exception e) {
+        // Süresi dolan sorguda her fragment hemen hata verir, hata da aynı şekilde devredilmeli
+        result = CompletableFuture.failedFuture(e);
+      }
+      // thenApplyAsync hatalı sonucu executor'a vermeden aynı thread'de tamamlar, whenCompleteAsync her
+      // sonucu devreder
+      return result.whenCompleteAsync((value, error) -> {
+      }, executor(env.getGraphQlContext()));
+    };
+  }
+
+  private Executor executor(GraphQLContext context) {
+    QueryDeadline deadline = context.get(QueryDeadline.class);
+    ReplicaRoute route = context.get(ReplicaRoute.class);
+    return task -> {
+      Runnable bound = task;
+      if (route != null) {
+        bound = route.wrap(bound);
+      }
+      if (deadline != null) {
+        bound = deadline.wrap(bound);
+      }
+      completions.execute(bound);
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    completions.shutdownNow();
+  }
+}
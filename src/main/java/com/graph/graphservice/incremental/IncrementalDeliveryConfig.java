@@ -0,0 +1,20 @@
+package com.graph.graphservice.incremental;
+
+import com.graph.graphservice.dto.ContractResponse;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+@Configuration
+public class IncrementalDeliveryConfig {
+
+  @Bean
+  public RuntimeWiringConfigurer deferredContractFieldsConfigurer(DeferredContractLoader loader) {
+    return wiring -> wiring.type("Contract", type -> type
+        .dataFetcher("coverages", new DeferredContractFieldFetcher(loader, "coverages", ContractResponse::coverages))
+        .dataFetcher("layers", new DeferredContractFieldFetcher(loader, "layers", ContractResponse::layers))
+        .dataFetcher("contractDetail",
+            new DeferredContractFieldFetcher(loader, "contractDetail", ContractResponse::contractDetail)));
+  }
+}
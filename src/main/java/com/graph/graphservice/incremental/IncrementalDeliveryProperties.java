@@ -0,0 +1,14 @@
+package com.graph.graphservice.incremental;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param completionThreads threads continuing deferred fragments of all requests; fetchers started there
+ *                          take connections, so more than the connection pool size only adds waiting threads
+ */
+@ConfigurationProperties(prefix = "graph.incremental")
+public record IncrementalDeliveryProperties(
+    @DefaultValue("2") int completionThreads
+) {
+}
@@ -0,0 +1,42 @@
+package com.graph.graphservice.incremental;
+
+import graphql.ExecutionResult;
+import graphql.incremental.DelayedIncrementalPartialResult;
+import graphql.incremental.IncrementalExecutionResult;
+import graphql.incremental.IncrementalExecutionResultImpl;
+
+import reactor.core.publisher.Flux;
+
+import java.util.function.UnaryOperator;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class IncrementalResults {
+
+  /**
+   * A result with {@code @defer} payloads is returned before its deferred fetches run. Per-operation
+   * resources (admission permit, deadline watchdog) have to be released when the payload stream ends.
+   *
+   * @return a copy of the result whose payload stream runs {@code action} once it completes, fails or is
+   * cancelled, or null when the result has no deferred payloads
+   */
+  public ExecutionResult doFinally(ExecutionResult result, Runnable action) {
+    return transform(result, parts -> parts.doFinally(signal -> action.run()));
+  }
+
+  /**
+   * @return a copy of the result with {@code operator} applied to its payload stream, or null when the
+   * result has no deferred payloads
+   */
+  public ExecutionResult transform(ExecutionResult result,
+                                   UnaryOperator<Flux<DelayedIncrementalPartialResult>> operator) {
+    if (!(result instanceof IncrementalExecutionResult incremental)) {
+      return null;
+    }
+    return IncrementalExecutionResultImpl.newIncrementalExecutionResult()
+        .from(incremental)
+        .incrementalItemPublisher(operator.apply(Flux.from(incremental.getIncrementalItemPublisher())))
+        .build();
+  }
+}
@@ -3,11 +3,13 @@ package com.graph.graphservice.mapper;
 import com.graph.graphservice.entity.ContractDetailEntity;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 @Mapper
 public interface ContractDetailMapper {
   ContractDetailMapper INSTANCE = Mappers.getMapper(ContractDetailMapper.class);
 
+  @Mapping(target = "persisted", ignore = true)
   ContractDetailEntity toModel(ContractDetailEntity entity);
 }
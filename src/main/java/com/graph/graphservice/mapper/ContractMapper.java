@@ -4,23 +4,37 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 
+import com.graph.graphservice.dto.ContractDetailResponse;
 import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.entity.ContractDetailEntity;
 import com.graph.graphservice.entity.ContractEntity;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.factory.Mappers;
 
-@Mapper(uses = {LayerMapper.class, ContractDetailMapper.class})
+@Mapper(uses = {LayerMapper.class, ContractDetailMapper.class, LoadStateConditions.class})
 public interface ContractMapper {
   ContractMapper INSTANCE = Mappers.getMapper(ContractMapper.class);
 
+  // Property tipi de bir entity olduğunda MapStruct condition'a değeri veriyor, detail bu yüzden elle map ediliyor
+  @Mapping(target = "contractDetail", ignore = true)
   ContractResponse toModel(ContractEntity entity);
 
+  ContractDetailResponse toModel(ContractDetailEntity entity);
+
   List<ContractResponse> toModels(Collection<ContractEntity> entities);
 
+  @AfterMapping
+  default void mapContractDetail(ContractEntity entity, @MappingTarget ContractResponse.ContractResponseBuilder response) {
+    if (LoadStateConditions.isLoaded(entity, "contractDetail")) {
+      response.contractDetail(toModel(entity.getContractDetail()));
+    }
+  }
+
   @AfterMapping
   default void sort(@MappingTarget List<ContractResponse> responses) {
     if (ObjectUtils.isNotEmpty(responses)) {
@@ -0,0 +1,18 @@
+package com.graph.graphservice.mapper;
+
+import java.util.List;
+
+import com.graph.graphservice.dto.ContractSummaryResponse;
+import com.graph.graphservice.entity.ContractSummaryEntity;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ContractSummaryMapper {
+  ContractSummaryMapper INSTANCE = Mappers.getMapper(ContractSummaryMapper.class);
+
+  ContractSummaryResponse toModel(ContractSummaryEntity entity);
+
+  List<ContractSummaryResponse> toModels(List<ContractSummaryEntity> entities);
+}
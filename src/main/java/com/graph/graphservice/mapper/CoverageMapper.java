@@ -13,7 +13,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.factory.Mappers;
 
-@Mapper
+@Mapper(uses = LoadStateConditions.class)
 public interface CoverageMapper {
   CoverageMapper INSTANCE = Mappers.getMapper(CoverageMapper.class);
 
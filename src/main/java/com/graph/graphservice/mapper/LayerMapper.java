@@ -13,7 +13,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.factory.Mappers;
 
-@Mapper(uses = {ReinstatementMapper.class})
+@Mapper(uses = {ReinstatementMapper.class, LoadStateConditions.class})
 public interface LayerMapper {
   LayerMapper INSTANCE = Mappers.getMapper(LayerMapper.class);
 
@@ -0,0 +1,22 @@
+package com.graph.graphservice.mapper;
+
+import jakarta.persistence.Persistence;
+
+import com.graph.graphservice.entity.PersistableEntity;
+
+import org.mapstruct.Condition;
+import org.mapstruct.SourcePropertyName;
+
+/**
+ * Mapping skips attributes and associations Hibernate has not loaded yet, so reading an entity never
+ * triggers lazy loading: whatever the read path initialized for the selection is what gets mapped.
+ * Instances built by the dynamic engines are not managed and always count as loaded.
+ */
+public class LoadStateConditions {
+
+  @Condition
+  public static boolean isLoaded(PersistableEntity source, @SourcePropertyName String property) {
+    return Persistence.getPersistenceUtil().isLoaded(source, property);
+  }
+
+}
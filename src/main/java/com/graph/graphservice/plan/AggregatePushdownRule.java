@@ -0,0 +1,44 @@
+package com.graph.graphservice.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aggregates are rendered as correlated subqueries. In the select list Postgres evaluates them once per
+ * result row, so when collections are joined below the node they run once per joined row. This rule
+ * moves them into a {@code LEFT JOIN LATERAL} right after the node, evaluated once per node row.
+ * Runs after the split rules so it sees the final join shape.
+ */
+@Order(400)
+@Component
+public class AggregatePushdownRule implements PlanRule {
+
+  @Override
+  public String name() {
+    return "aggregate-pushdown";
+  }
+
+  @Override
+  public List<String> apply(LogicalPlan plan) {
+    List<String> changes = new ArrayList<>();
+    plan.forEachNode(node -> {
+      if (node.hasAggregates() && multipliesRows(node)) {
+        node.setLateralAggregates(true);
+        changes.add(EntityModel.tableName(node.getEntityClass()) + ": aggregates evaluated once per row in a lateral join");
+      }
+    });
+    return changes;
+  }
+
+  private boolean multipliesRows(PlanNode node) {
+    for (PlanNode child : node.inlinedChildren()) {
+      if (child.getCardinality() == Cardinality.TO_MANY || multipliesRows(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
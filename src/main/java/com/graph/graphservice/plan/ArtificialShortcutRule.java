@@ -0,0 +1,56 @@
+package com.graph.graphservice.plan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * A nested collection whose entity carries an {@link com.graph.graphservice.aspect.ArtificialRelation}
+ * to the root can be fetched by the root ids directly. A split query keyed by the parent ids always
+ * gets the shorter root id list; a joined one moves out when the cost model says so.
+ */
+@Order(300)
+@Component
+@RequiredArgsConstructor
+public class ArtificialShortcutRule implements PlanRule {
+  private final PlanCostModel costModel;
+
+  @Override
+  public String name() {
+    return "artificial-shortcut";
+  }
+
+  @Override
+  public List<String> apply(LogicalPlan plan) {
+    List<String> changes = new ArrayList<>();
+    Class<?> rootClass = plan.getRoot().getEntityClass();
+    plan.forEachNode(node -> {
+      if (node.isRoot() || node.getParent().isRoot() || node.getCardinality() != Cardinality.TO_MANY) {
+        return;
+      }
+      Field shortcut = EntityModel.relationTo(node.getEntityClass(), rootClass, true);
+      if (shortcut == null || EntityModel.relationTo(node.getEntityClass(), node.getParent().getEntityClass(), false) == null) {
+        return;
+      }
+
+      FetchMode current = node.getFetchMode();
+      double cost = costModel.estimate(plan);
+      node.setFetchMode(FetchMode.SHORTCUT);
+      node.setShortcutField(shortcut.getName());
+      double shortcutCost = costModel.estimate(plan);
+      if (current == FetchMode.SPLIT || shortcutCost < cost) {
+        changes.add(String.format("%s: fetched by root ids via %s, estimated rows %.0f -> %.0f",
+            node.getRelationField(), shortcut.getName(), cost, shortcutCost));
+      } else {
+        node.setFetchMode(current);
+        node.setShortcutField(null);
+      }
+    });
+    return changes;
+  }
+}
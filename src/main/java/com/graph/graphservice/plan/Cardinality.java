@@ -0,0 +1,7 @@
+package com.graph.graphservice.plan;
+
+public enum Cardinality {
+  ROOT,
+  TO_ONE,
+  TO_MANY
+}
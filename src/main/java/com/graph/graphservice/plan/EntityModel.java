@@ -0,0 +1,123 @@
+package com.graph.graphservice.plan;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.Collection;
+import java.util.Locale;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+
+import com.graph.graphservice.aspect.ArtificialRelation;
+
+import lombok.experimental.UtilityClass;
+
+import org.hibernate.annotations.Formula;
+
+/**
+ * Reflection over the JPA mapping annotations the planner needs: tables, columns, relation targets and
+ * which side of a relation holds the foreign key.
+ */
+@UtilityClass
+public class EntityModel {
+
+  /**
+   * Foreign key of a relation. {@code onTarget} is true when the column lives in the target table
+   * ({@code mappedBy} side), false when the owner holds it.
+   */
+  public record JoinKey(String column, boolean onTarget) {
+  }
+
+  public String tableName(Class<?> entityClass) {
+    Table table = entityClass.getAnnotation(Table.class);
+    return table != null && !table.name().isEmpty() ? table.name() : snakeCase(entityClass.getSimpleName());
+  }
+
+  public Field field(Class<?> entityClass, String name) {
+    try {
+      return entityClass.getDeclaredField(name);
+    } catch (NoSuchFieldException e) {
+      return null;
+    }
+  }
+
+  public boolean isRelation(Field field) {
+    return isEntity(targetClass(field));
+  }
+
+  public boolean isCollection(Field field) {
+    return Collection.class.isAssignableFrom(field.getType());
+  }
+
+  public boolean isArtificial(Field field) {
+    return field.isAnnotationPresent(ArtificialRelation.class);
+  }
+
+  public Class<?> targetClass(Field field) {
+    if (isCollection(field) && field.getGenericType() instanceof ParameterizedType type
+        && type.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+      return elementType;
+    }
+    return field.getType();
+  }
+
+  public String columnName(Field field) {
+    JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+    if (joinColumn != null && !joinColumn.name().isEmpty()) {
+      return joinColumn.name();
+    }
+    Column column = field.getAnnotation(Column.class);
+    if (column != null && !column.name().isEmpty()) {
+      return column.name();
+    }
+    return snakeCase(field.getName());
+  }
+
+  public String formula(Field field) {
+    Formula formula = field.getAnnotation(Formula.class);
+    return formula != null ? formula.value() : null;
+  }
+
+  public JoinKey joinKey(Field relation) {
+    String mappedBy = mappedBy(relation);
+    if (mappedBy != null) {
+      return new JoinKey(columnName(field(targetClass(relation), mappedBy)), true);
+    }
+    return new JoinKey(columnName(relation), false);
+  }
+
+  // related tipine giden (artificial olan/olmayan) ilk to-one field
+  public Field relationTo(Class<?> entityClass, Class<?> relatedClass, boolean artificial) {
+    for (Field field : entityClass.getDeclaredFields()) {
+      if (field.getType().equals(relatedClass) && isArtificial(field) == artificial
+          && field.isAnnotationPresent(JoinColumn.class)) {
+        return field;
+      }
+    }
+    return null;
+  }
+
+  private String mappedBy(Field relation) {
+    OneToMany oneToMany = relation.getAnnotation(OneToMany.class);
+    if (oneToMany != null && !oneToMany.mappedBy().isEmpty()) {
+      return oneToMany.mappedBy();
+    }
+    OneToOne oneToOne = relation.getAnnotation(OneToOne.class);
+    if (oneToOne != null && !oneToOne.mappedBy().isEmpty()) {
+      return oneToOne.mappedBy();
+    }
+    return null;
+  }
+
+  private boolean isEntity(Class<?> type) {
+    return type.isAnnotationPresent(Entity.class);
+  }
+
+  private String snakeCase(String name) {
+    return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+  }
+}
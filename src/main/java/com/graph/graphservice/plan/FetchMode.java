@@ -0,0 +1,15 @@
+package com.graph.graphservice.plan;
+
+/**
+ * How a {@link PlanNode} is reached from its parent.
+ */
+public enum FetchMode {
+  // Parent ile aynı sorguda left join
+  JOIN,
+  // Parent id'leri ile ayrı sorgu
+  SPLIT,
+  // Kök id'leri ile, köke giden artificial relation üzerinden ayrı sorgu
+  SHORTCUT,
+  // Sadece id seçili to-one: parent'taki FK kolonundan okunur, join yok
+  FOREIGN_KEY
+}
@@ -0,0 +1,43 @@
+package com.graph.graphservice.plan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the join of a to-one relation when only its id is selected and the owner holds the foreign
+ * key: the id is read from the owner's column instead.
+ */
+@Order(100)
+@Component
+public class JoinPruningRule implements PlanRule {
+
+  @Override
+  public String name() {
+    return "join-pruning";
+  }
+
+  @Override
+  public List<String> apply(LogicalPlan plan) {
+    List<String> changes = new ArrayList<>();
+    plan.forEachNode(node -> {
+      if (node.isRoot() || node.getFetchMode() != FetchMode.JOIN || node.getCardinality() != Cardinality.TO_ONE) {
+        return;
+      }
+      Field relation = EntityModel.field(node.getParent().getEntityClass(), node.getRelationField());
+      if (EntityModel.joinKey(relation).onTarget() || !node.getChildren().isEmpty() || !onlyId(node)) {
+        return;
+      }
+      node.setFetchMode(FetchMode.FOREIGN_KEY);
+      changes.add(node.getRelationField() + ": id read from " + EntityModel.columnName(relation));
+    });
+    return changes;
+  }
+
+  private boolean onlyId(PlanNode node) {
+    return node.getProjections().stream().allMatch(projection -> projection.field().equals("id"));
+  }
+}
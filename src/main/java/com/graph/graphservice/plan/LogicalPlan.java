@@ -0,0 +1,44 @@
+package com.graph.graphservice.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+
+@Getter
+public class LogicalPlan {
+  private final PlanNode root;
+  private final int rootCount;
+  private final List<String> appliedRules = new ArrayList<>();
+
+  public LogicalPlan(PlanNode root, int rootCount) {
+    this.root = root;
+    this.rootCount = Math.max(1, rootCount);
+  }
+
+  public void forEachNode(Consumer<PlanNode> action) {
+    visit(root, action);
+  }
+
+  public List<PlanNode> queryRoots() {
+    List<PlanNode> queryRoots = new ArrayList<>();
+    forEachNode(node -> {
+      if (node.isQueryRoot()) {
+        queryRoots.add(node);
+      }
+    });
+    return queryRoots;
+  }
+
+  public String describe() {
+    return root.describe();
+  }
+
+  private void visit(PlanNode node, Consumer<PlanNode> action) {
+    action.accept(node);
+    for (PlanNode child : List.copyOf(node.getChildren())) {
+      visit(child, action);
+    }
+  }
+}
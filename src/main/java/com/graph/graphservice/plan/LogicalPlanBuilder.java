@@ -0,0 +1,53 @@
+package com.graph.graphservice.plan;
+
+import java.lang.reflect.Field;
+
+import com.graph.graphservice.dto.FieldNode;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Turns a {@link FieldNode} selection into the unoptimized plan: every relation joined, every
+ * {@code @Formula} field an aggregate projection, unknown fields ({@code __typename}, aliases of
+ * computed fields) dropped. Each node always projects its id, the executor keys instances by it.
+ */
+@UtilityClass
+public class LogicalPlanBuilder {
+
+  public LogicalPlan build(FieldNode selection, Class<?> rootClass, int rootCount) {
+    PlanNode root = new PlanNode(rootClass, null, Cardinality.ROOT, null);
+    addSelection(root, selection);
+    return new LogicalPlan(root, rootCount);
+  }
+
+  private void addSelection(PlanNode node, FieldNode selection) {
+    node.getProjections().add(Projection.column("id", "id"));
+    if (selection.getChildren() == null) {
+      return;
+    }
+
+    for (FieldNode child : selection.getChildren()) {
+      Field field = EntityModel.field(node.getEntityClass(), child.getName());
+      if (field == null || child.getName().equals("id") || contains(node, child.getName())) {
+        continue;
+      }
+
+      if (EntityModel.isRelation(field)) {
+        Cardinality cardinality = EntityModel.isCollection(field) ? Cardinality.TO_MANY : Cardinality.TO_ONE;
+        PlanNode relation = new PlanNode(EntityModel.targetClass(field), field.getName(), cardinality, node);
+        addSelection(relation, child);
+        node.getChildren().add(relation);
+      } else if (EntityModel.formula(field) != null) {
+        node.getProjections().add(Projection.aggregate(field.getName(), EntityModel.columnName(field),
+            EntityModel.formula(field)));
+      } else {
+        node.getProjections().add(Projection.column(field.getName(), EntityModel.columnName(field)));
+      }
+    }
+  }
+
+  private boolean contains(PlanNode node, String field) {
+    return node.getProjections().stream().anyMatch(projection -> projection.field().equals(field))
+        || node.getChildren().stream().anyMatch(child -> child.getRelationField().equals(field));
+  }
+}
@@ -0,0 +1,24 @@
+package com.graph.graphservice.plan;
+
+import java.util.List;
+
+/**
+ * The SQL a {@link LogicalPlan} runs as, one query per query root in dependency order. A query is
+ * keyed by the root ids or, for split collections, by the ids its parent query produced.
+ */
+public record PhysicalPlan(
+    LogicalPlan logicalPlan,
+    List<Query> queries
+) {
+
+  public record Query(
+      PlanNode root,
+      String sql,
+      boolean keyedByRootIds
+  ) {
+  }
+
+  public List<String> sql() {
+    return queries.stream().map(Query::sql).toList();
+  }
+}
@@ -0,0 +1,144 @@
+package com.graph.graphservice.plan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Assembles detached entity graphs from the rows of a {@link PhysicalPlan}: instances are keyed by node
+ * and id, so rows repeated by joins map to the same instance and each child is linked once. Not thread
+ * safe, the queries of one execution feed it one row at a time.
+ */
+class PlanAssembler {
+  private final Map<PlanNode, Map<Object, Object>> instances = new HashMap<>();
+  private final Map<PlanNode, Set<Object>> linked = new HashMap<>();
+
+  // Split sorguları parent sorgusunun ürettiği id'lerle çalışır
+  List<?> keys(PhysicalPlan.Query query, Collection<UUID> rootIds) {
+    return List.copyOf(query.keyedByRootIds()
+        ? rootIds
+        : instances.getOrDefault(query.root().getParent(), Map.of()).keySet());
+  }
+
+  void accept(PlanNode queryRoot, PlanRow row) {
+    Object parent = null;
+    if (!queryRoot.isRoot()) {
+      parent = instances.getOrDefault(queryRoot.getParent(), Map.of())
+          .get(row.get(SqlPlanRenderer.KEY_COLUMN, UUID.class));
+      if (parent == null) {
+        return;
+      }
+    }
+    readNode(queryRoot, row, parent);
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> List<T> roots(PlanNode root, Collection<UUID> rootIds) {
+    Map<Object, Object> roots = instances.getOrDefault(root, Map.of());
+    return rootIds.stream()
+        .map(roots::get)
+        .filter(Objects::nonNull)
+        .map(instance -> (T) instance)
+        .toList();
+  }
+
+  private void readNode(PlanNode node, PlanRow row, Object parent) {
+    Object id = row.get(node.getAlias() + "_id", UUID.class);
+    if (id == null) {
+      return;
+    }
+
+    Map<Object, Object> nodeInstances = instances.computeIfAbsent(node, key -> new LinkedHashMap<>());
+    Object instance = nodeInstances.get(id);
+    if (instance == null) {
+      instance = instantiate(node, row);
+      nodeInstances.put(id, instance);
+    }
+    if (parent != null && linked.computeIfAbsent(node, key -> new HashSet<>()).add(id)) {
+      link(node, parent, instance);
+    }
+
+    for (PlanNode child : node.inlinedChildren()) {
+      readNode(child, row, instance);
+    }
+  }
+
+  private Object instantiate(PlanNode node, PlanRow row) {
+    try {
+      Object instance = node.getEntityClass().getDeclaredConstructor().newInstance();
+      for (Projection projection : node.getProjections()) {
+        Field field = EntityModel.field(node.getEntityClass(), projection.field());
+        Object value = row.get(node.getAlias() + "_" + projection.column(), field.getType());
+        if (value != null) {
+          field.setAccessible(true);
+          field.set(instance, value);
+        }
+      }
+      return instance;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot instantiate " + node.getEntityClass().getSimpleName(), e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void link(PlanNode node, Object parent, Object child) {
+    try {
+      Field relation = EntityModel.field(node.getParent().getEntityClass(), node.getRelationField());
+      relation.setAccessible(true);
+      if (EntityModel.isCollection(relation)) {
+        Collection<Object> collection = (Collection<Object>) relation.get(parent);
+        if (collection == null) {
+          collection = Set.class.isAssignableFrom(relation.getType()) ? new HashSet<>() : new ArrayList<>();
+          relation.set(parent, collection);
+        }
+        collection.add(child);
+      } else {
+        relation.set(parent, child);
+      }
+
+      Field backReference = EntityModel.relationTo(node.getEntityClass(), node.getParent().getEntityClass(), false);
+      if (backReference != null) {
+        backReference.setAccessible(true);
+        backReference.set(child, parent);
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot link " + node.getRelationField(), e);
+    }
+  }
+
+  // count(*) gibi aggregate'ler int8 döner, driver'lar Integer'a çevirmiyor
+  static Object number(Object value, Class<?> type) {
+    if (value == null) {
+      return null;
+    }
+    Class<?> boxed = boxed(type);
+    if (boxed == Integer.class) {
+      return ((Number) value).intValue();
+    }
+    return ((Number) value).longValue();
+  }
+
+  static Class<?> boxed(Class<?> type) {
+    if (type == int.class) {
+      return Integer.class;
+    }
+    if (type == long.class) {
+      return Long.class;
+    }
+    if (type == boolean.class) {
+      return Boolean.class;
+    }
+    if (type == double.class) {
+      return Double.class;
+    }
+    return type;
+  }
+}
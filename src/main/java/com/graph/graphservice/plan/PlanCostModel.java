@@ -0,0 +1,96 @@
+package com.graph.graphservice.plan;
+
+import java.util.List;
+
+import com.graph.graphservice.repository.TableStatistics;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Rough cost of a plan in "rows shipped to the application": the rows every query returns (left
+ * joins multiply sibling collections), plus a fixed price per extra round trip and a small price per
+ * key sent in an {@code IN} list. The only copy of these constants; the V3 engine's shortcut planning
+ * prices its alternatives with {@link #cost} and {@link #fanOut} as well.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanCostModel {
+  // Bir ek round trip'in kabaca kaç satır taşımaya denk geldiği
+  private static final double ROUND_TRIP_ROWS = 50;
+  private static final double KEY_ROWS = 0.1;
+  private static final double DEFAULT_FAN_OUT = 4;
+
+  private final TableStatistics tableStatistics;
+
+  public double estimate(LogicalPlan plan) {
+    List<PlanNode> queryRoots = plan.queryRoots();
+    double[] rows = new double[queryRoots.size()];
+    double[] keys = new double[queryRoots.size()];
+    for (int i = 0; i < queryRoots.size(); i++) {
+      rows[i] = queryRows(plan, queryRoots.get(i));
+      keys[i] = queryKeys(plan, queryRoots.get(i));
+    }
+    return cost(rows, keys);
+  }
+
+  /**
+   * @param rows rows returned by each query of a plan
+   * @param keys ids each query sends in its {@code IN} list
+   */
+  public double cost(double[] rows, double[] keys) {
+    double cost = ROUND_TRIP_ROWS * (rows.length - 1);
+    for (int i = 0; i < rows.length; i++) {
+      cost += rows[i] + KEY_ROWS * keys[i];
+    }
+    return cost;
+  }
+
+  /**
+   * Average {@code child} rows per {@code parent} row, from the table statistics.
+   */
+  public double fanOut(Class<?> parent, Class<?> child) {
+    return tableStatistics.fanOut(parent, child, DEFAULT_FAN_OUT);
+  }
+
+  public double queryRows(LogicalPlan plan, PlanNode queryRoot) {
+    return plan.getRootCount() * rowsPerRoot(queryRoot) * rowsPerQueryRoot(queryRoot);
+  }
+
+  public double queryKeys(LogicalPlan plan, PlanNode queryRoot) {
+    if (queryRoot.getFetchMode() == FetchMode.SPLIT) {
+      return plan.getRootCount() * rowsPerRoot(queryRoot.getParent());
+    }
+    return plan.getRootCount();
+  }
+
+  // Kök başına bu node'un tablosundan gelen satır sayısı
+  private double rowsPerRoot(PlanNode node) {
+    double rows = 1;
+    for (PlanNode current = node; !current.isRoot(); current = current.getParent()) {
+      if (current.getCardinality() == Cardinality.TO_MANY) {
+        rows *= fanOut(current);
+      }
+    }
+    return rows;
+  }
+
+  // Sorgu kökünün bir satırı, inline edilmiş join'lerle kaç satıra çoğalıyor
+  private double rowsPerQueryRoot(PlanNode node) {
+    double rows = 1;
+    for (PlanNode child : node.inlinedChildren()) {
+      double childRows = rowsPerQueryRoot(child);
+      if (child.getCardinality() == Cardinality.TO_MANY) {
+        childRows *= fanOut(child);
+      }
+      // Left join: çocuğu olmayan parent da bir satır üretir
+      rows *= Math.max(1, childRows);
+    }
+    return rows;
+  }
+
+  private double fanOut(PlanNode node) {
+    return fanOut(node.getParent().getEntityClass(), node.getEntityClass());
+  }
+}
@@ -0,0 +1,68 @@
+package com.graph.graphservice.plan;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.graph.graphservice.deadline.QueryDeadline;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a {@link PhysicalPlan} over JDBC and assembles detached entity graphs from the rows
+ * (see {@link PlanAssembler}).
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanExecutor {
+  // Postgres bind parametre limitinin çok altında kalmak için IN listesi parçalanıyor
+  private static final int MAX_KEYS_PER_QUERY = 1_000;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final SqlPlanRenderer renderer;
+
+  public PhysicalPlan render(LogicalPlan plan) {
+    return renderer.render(plan);
+  }
+
+  public <T> List<T> execute(LogicalPlan plan, Collection<UUID> rootIds) {
+    PhysicalPlan physicalPlan = render(plan);
+    PlanAssembler assembler = new PlanAssembler();
+
+    for (PhysicalPlan.Query query : physicalPlan.queries()) {
+      List<?> keyList = assembler.keys(query, rootIds);
+      for (int from = 0; from < keyList.size(); from += MAX_KEYS_PER_QUERY) {
+        QueryDeadline.checkCurrent();
+        List<?> chunk = keyList.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keyList.size()));
+        jdbcTemplate.query(query.sql(), Map.of(SqlPlanRenderer.KEYS_PARAMETER, chunk), (ResultSet rs) -> {
+          assembler.accept(query.root(), (label, type) -> read(rs, label, type, query.sql()));
+        });
+      }
+    }
+    return assembler.roots(plan.getRoot(), rootIds);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object read(ResultSet rs, String label, Class<?> type, String sql) {
+    try {
+      if (type.isEnum()) {
+        String value = rs.getString(label);
+        return value != null ? Enum.valueOf((Class<? extends Enum>) type, value) : null;
+      }
+      Class<?> boxed = PlanAssembler.boxed(type);
+      if (boxed == Integer.class || boxed == Long.class) {
+        return PlanAssembler.number(rs.getObject(label), boxed);
+      }
+      return rs.getObject(label, boxed);
+    } catch (SQLException e) {
+      throw new UncategorizedSQLException("Reading " + label, sql, e);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.graph.graphservice.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One entity in the logical plan: a scan for the root, a relation from its parent otherwise. Rules
+ * change {@link #fetchMode} and {@link #lateralAggregates}; the tree shape is fixed by the selection.
+ */
+@Getter
+@Setter
+public class PlanNode {
+  private final Class<?> entityClass;
+  private final String relationField;
+  private final Cardinality cardinality;
+  private final PlanNode parent;
+  private final List<Projection> projections = new ArrayList<>();
+  private final List<PlanNode> children = new ArrayList<>();
+
+  private FetchMode fetchMode = FetchMode.JOIN;
+  private boolean lateralAggregates;
+  // SHORTCUT için node'un köke giden artificial field'ı
+  private String shortcutField;
+  // SQL render sırasında atanır
+  private String alias;
+
+  public PlanNode(Class<?> entityClass, String relationField, Cardinality cardinality, PlanNode parent) {
+    this.entityClass = entityClass;
+    this.relationField = relationField;
+    this.cardinality = cardinality;
+    this.parent = parent;
+  }
+
+  public boolean isRoot() {
+    return parent == null;
+  }
+
+  // Kendi sorgusunu başlatan node'lar
+  public boolean isQueryRoot() {
+    return isRoot() || fetchMode == FetchMode.SPLIT || fetchMode == FetchMode.SHORTCUT;
+  }
+
+  public boolean isInlined() {
+    return fetchMode == FetchMode.JOIN || fetchMode == FetchMode.FOREIGN_KEY;
+  }
+
+  public List<PlanNode> inlinedChildren() {
+    return children.stream().filter(child -> !child.isRoot() && child.isInlined()).toList();
+  }
+
+  public boolean hasAggregates() {
+    return projections.stream().anyMatch(Projection::isAggregate);
+  }
+
+  public String describe() {
+    StringBuilder description = new StringBuilder();
+    describe(description, 0);
+    return description.toString();
+  }
+
+  private void describe(StringBuilder description, int depth) {
+    description.append("  ".repeat(depth));
+    if (isRoot()) {
+      description.append("Scan ");
+    } else {
+      description.append(fetchMode).append('(').append(cardinality).append(") ").append(relationField).append(" -> ");
+    }
+    description.append(EntityModel.tableName(entityClass));
+    if (fetchMode == FetchMode.SHORTCUT) {
+      description.append(" via ").append(shortcutField);
+    }
+
+    description.append(" [");
+    description.append(String.join(", ", projections.stream()
+        .map(projection -> projection.isAggregate()
+            ? (lateralAggregates ? "lateral " : "") + "agg " + projection.field()
+            : projection.field())
+        .toList()));
+    description.append("]\n");
+
+    for (PlanNode child : children) {
+      child.describe(description, depth + 1);
+    }
+  }
+}
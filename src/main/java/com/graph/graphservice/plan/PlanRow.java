@@ -0,0 +1,11 @@
+package com.graph.graphservice.plan;
+
+/**
+ * One result row of a plan query, read by column label and already converted to the Java type of the
+ * field it fills. Lets JDBC and R2DBC results feed the same {@link PlanAssembler}.
+ */
+@FunctionalInterface
+interface PlanRow {
+
+  Object get(String label, Class<?> type);
+}
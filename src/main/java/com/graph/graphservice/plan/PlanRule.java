@@ -0,0 +1,14 @@
+package com.graph.graphservice.plan;
+
+import java.util.List;
+
+/**
+ * A rewrite of the logical plan. Rules run in {@link org.springframework.core.annotation.Order} order;
+ * each returns a line per change it made, which ends up in the explain output.
+ */
+public interface PlanRule {
+
+  String name();
+
+  List<String> apply(LogicalPlan plan);
+}
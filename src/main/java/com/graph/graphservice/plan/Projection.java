@@ -0,0 +1,30 @@
+package com.graph.graphservice.plan;
+
+/**
+ * A selected attribute of a plan node: a plain column, or an aggregate whose SQL comes from the
+ * entity's {@code @Formula}.
+ */
+public record Projection(
+    String field,
+    String column,
+    String expression,
+    Kind kind
+) {
+
+  public enum Kind {
+    COLUMN,
+    AGGREGATE
+  }
+
+  public static Projection column(String field, String column) {
+    return new Projection(field, column, null, Kind.COLUMN);
+  }
+
+  public static Projection aggregate(String field, String column, String expression) {
+    return new Projection(field, column, expression, Kind.AGGREGATE);
+  }
+
+  public boolean isAggregate() {
+    return kind == Kind.AGGREGATE;
+  }
+}
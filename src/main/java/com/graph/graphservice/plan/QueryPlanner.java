@@ -0,0 +1,32 @@
+package com.graph.graphservice.plan;
+
+import java.util.List;
+
+import com.graph.graphservice.dto.FieldNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the logical plan of a selection and runs the {@link PlanRule}s over it. New fetch
+ * optimizations are added as rules, the executor only follows the plan.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryPlanner {
+  private final List<PlanRule> rules;
+
+  public LogicalPlan plan(FieldNode selection, Class<?> rootClass, int rootCount) {
+    LogicalPlan plan = LogicalPlanBuilder.build(selection, rootClass, rootCount);
+    for (PlanRule rule : rules) {
+      for (String change : rule.apply(plan)) {
+        plan.getAppliedRules().add(rule.name() + ": " + change);
+      }
+    }
+    log.debug("Plan for {} root(s):\n{}", plan.getRootCount(), plan.describe());
+    return plan;
+  }
+}
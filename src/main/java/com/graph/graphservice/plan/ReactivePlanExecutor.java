@@ -0,0 +1,83 @@
+package com.graph.graphservice.plan;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs a {@link PhysicalPlan} over R2DBC without holding a thread while the database works. The root ids
+ * are taken in chunks: a chunk's queries run one after the other on one connection, its contracts are
+ * emitted once its last query has finished, and the next chunk is only queried when the subscriber asks
+ * for more.
+ */
+@RequiredArgsConstructor
+public class ReactivePlanExecutor {
+  // Backpressure birimi: bu kadar kök birlikte sorgulanıp birlikte yayınlanır
+  private static final int ROOTS_PER_CHUNK = 100;
+  private static final String KEYS_PREDICATE = " in (:" + SqlPlanRenderer.KEYS_PARAMETER + ")";
+
+  private final ConnectionFactory connectionFactory;
+  private final SqlPlanRenderer renderer;
+
+  public <T> Flux<T> execute(LogicalPlan plan, List<UUID> rootIds) {
+    PhysicalPlan physicalPlan = renderer.render(plan);
+    // prefetch 0: bir chunk ancak öncekinin sonuçları istendiğinde sorgulanır
+    return Flux.fromIterable(chunks(rootIds))
+        .concatMap(chunk -> this.<T>execute(physicalPlan, chunk).flatMapIterable(roots -> roots), 0);
+  }
+
+  // Her sorgu için havuzda ayrıca beklenmesin diye chunk'ın sorguları aynı bağlantıda çalışır
+  private <T> Mono<List<T>> execute(PhysicalPlan physicalPlan, List<UUID> rootIds) {
+    return Mono.usingWhen(connectionFactory.create(), connection -> {
+      PlanAssembler assembler = new PlanAssembler();
+      return Flux.fromIterable(physicalPlan.queries())
+          .concatMap(query -> query(connection, query, assembler.keys(query, rootIds), assembler))
+          .then(Mono.fromSupplier(() -> assembler.<T>roots(physicalPlan.logicalPlan().getRoot(), rootIds)));
+    }, Connection::close);
+  }
+
+  private Flux<Boolean> query(Connection connection, PhysicalPlan.Query query, List<?> keys, PlanAssembler assembler) {
+    if (keys.isEmpty()) {
+      return Flux.empty();
+    }
+    // IN listesi yerine tek dizi parametresi: anahtar sayısından bağımsız tek prepared statement
+    String sql = query.sql().replace(KEYS_PREDICATE, " = any($1)");
+    return Flux.from(connection.createStatement(sql)
+            .bind(0, keys.stream().map(UUID.class::cast).toArray(UUID[]::new))
+            .execute())
+        .concatMap(result -> result.map((row, metadata) -> {
+          assembler.accept(query.root(), (label, type) -> read(row, label, type));
+          return Boolean.TRUE;
+        }));
+  }
+
+  private List<List<UUID>> chunks(List<UUID> rootIds) {
+    List<List<UUID>> chunks = new ArrayList<>();
+    for (int from = 0; from < rootIds.size(); from += ROOTS_PER_CHUNK) {
+      chunks.add(rootIds.subList(from, Math.min(from + ROOTS_PER_CHUNK, rootIds.size())));
+    }
+    return chunks;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object read(Row row, String label, Class<?> type) {
+    if (type.isEnum()) {
+      String value = row.get(label, String.class);
+      return value != null ? Enum.valueOf((Class<? extends Enum>) type, value) : null;
+    }
+    Class<?> boxed = PlanAssembler.boxed(type);
+    if (boxed == Integer.class || boxed == Long.class) {
+      return PlanAssembler.number(row.get(label), boxed);
+    }
+    return row.get(label, boxed);
+  }
+}
@@ -0,0 +1,62 @@
+package com.graph.graphservice.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Join-vs-split for collections. Joining two sibling collections multiplies their rows; splitting one
+ * into its own query keyed by the parent ids costs a round trip. Greedily splits the collection that
+ * lowers the estimated cost most until no split helps.
+ */
+@Order(200)
+@Component
+@RequiredArgsConstructor
+public class SplitCollectionRule implements PlanRule {
+  private final PlanCostModel costModel;
+
+  @Override
+  public String name() {
+    return "split-collections";
+  }
+
+  @Override
+  public List<String> apply(LogicalPlan plan) {
+    List<String> changes = new ArrayList<>();
+    double cost = costModel.estimate(plan);
+    while (true) {
+      PlanNode best = null;
+      double bestCost = cost;
+      for (PlanNode candidate : candidates(plan)) {
+        candidate.setFetchMode(FetchMode.SPLIT);
+        double splitCost = costModel.estimate(plan);
+        candidate.setFetchMode(FetchMode.JOIN);
+        if (splitCost < bestCost) {
+          best = candidate;
+          bestCost = splitCost;
+        }
+      }
+      if (best == null) {
+        return changes;
+      }
+      best.setFetchMode(FetchMode.SPLIT);
+      changes.add(String.format("%s: split, estimated rows %.0f -> %.0f", best.getRelationField(), cost, bestCost));
+      cost = bestCost;
+    }
+  }
+
+  private List<PlanNode> candidates(LogicalPlan plan) {
+    List<PlanNode> candidates = new ArrayList<>();
+    plan.forEachNode(node -> {
+      if (!node.isRoot() && node.getFetchMode() == FetchMode.JOIN && node.getCardinality() == Cardinality.TO_MANY
+          && EntityModel.joinKey(EntityModel.field(node.getParent().getEntityClass(), node.getRelationField())).onTarget()) {
+        candidates.add(node);
+      }
+    });
+    return candidates;
+  }
+}
@@ -0,0 +1,131 @@
+package com.graph.graphservice.plan;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders every query root of a logical plan as one native query. Column aliases are
+ * {@code <node alias>_<column>}; split and shortcut queries add the parent id as {@value #KEY_COLUMN}.
+ */
+@Component
+public class SqlPlanRenderer {
+  static final String KEY_COLUMN = "parent_key";
+  static final String KEYS_PARAMETER = "keys";
+
+  // Formula'lar sahibinin kolonlarına niteliksiz "id" ile erişiyor
+  private static final Pattern OWNER_ID = Pattern.compile("(?<![.\\w])id(?!\\w)");
+
+  @Value("${spring.jpa.properties.hibernate.default_schema:graph}")
+  private String schema;
+
+  public PhysicalPlan render(LogicalPlan plan) {
+    AtomicInteger aliases = new AtomicInteger();
+    plan.forEachNode(node -> node.setAlias("t" + aliases.getAndIncrement()));
+
+    List<PhysicalPlan.Query> queries = new ArrayList<>();
+    for (PlanNode queryRoot : plan.queryRoots()) {
+      queries.add(new PhysicalPlan.Query(queryRoot, render(queryRoot),
+          queryRoot.getFetchMode() != FetchMode.SPLIT));
+    }
+    return new PhysicalPlan(plan, queries);
+  }
+
+  private String render(PlanNode queryRoot) {
+    List<String> columns = new ArrayList<>();
+    addColumns(queryRoot, columns);
+
+    String keyColumn = "id";
+    if (!queryRoot.isRoot()) {
+      keyColumn = keyColumn(queryRoot);
+      columns.add(queryRoot.getAlias() + "." + parentColumn(queryRoot) + " as " + KEY_COLUMN);
+    }
+
+    StringBuilder sql = new StringBuilder("select ")
+        .append(String.join(", ", columns))
+        .append(" from ").append(table(queryRoot)).append(' ').append(queryRoot.getAlias());
+    addLateral(queryRoot, sql);
+    addJoins(queryRoot, sql);
+    sql.append(" where ").append(queryRoot.getAlias()).append('.').append(keyColumn)
+        .append(" in (:").append(KEYS_PARAMETER).append(')');
+    return sql.toString();
+  }
+
+  private void addColumns(PlanNode node, List<String> columns) {
+    for (Projection projection : node.getProjections()) {
+      String label = node.getAlias() + "_" + projection.column();
+      if (node.getFetchMode() == FetchMode.FOREIGN_KEY) {
+        Field relation = EntityModel.field(node.getParent().getEntityClass(), node.getRelationField());
+        columns.add(node.getParent().getAlias() + "." + EntityModel.columnName(relation) + " as " + label);
+      } else if (!projection.isAggregate()) {
+        columns.add(node.getAlias() + "." + projection.column() + " as " + label);
+      } else if (node.isLateralAggregates()) {
+        columns.add(lateralAlias(node) + "." + projection.column() + " as " + label);
+      } else {
+        columns.add(expression(node, projection) + " as " + label);
+      }
+    }
+    for (PlanNode child : node.inlinedChildren()) {
+      addColumns(child, columns);
+    }
+  }
+
+  private void addJoins(PlanNode node, StringBuilder sql) {
+    for (PlanNode child : node.inlinedChildren()) {
+      if (child.getFetchMode() == FetchMode.FOREIGN_KEY) {
+        continue;
+      }
+      EntityModel.JoinKey joinKey = EntityModel.joinKey(EntityModel.field(node.getEntityClass(), child.getRelationField()));
+      sql.append(" left join ").append(table(child)).append(' ').append(child.getAlias()).append(" on ");
+      if (joinKey.onTarget()) {
+        sql.append(child.getAlias()).append('.').append(joinKey.column()).append(" = ").append(node.getAlias()).append(".id");
+      } else {
+        sql.append(child.getAlias()).append(".id = ").append(node.getAlias()).append('.').append(joinKey.column());
+      }
+      addLateral(child, sql);
+      addJoins(child, sql);
+    }
+  }
+
+  private void addLateral(PlanNode node, StringBuilder sql) {
+    if (!node.isLateralAggregates()) {
+      return;
+    }
+    List<String> aggregates = node.getProjections().stream()
+        .filter(Projection::isAggregate)
+        .map(projection -> expression(node, projection) + " as " + projection.column())
+        .toList();
+    sql.append(" left join lateral (select ").append(String.join(", ", aggregates)).append(") ")
+        .append(lateralAlias(node)).append(" on true");
+  }
+
+  private String keyColumn(PlanNode queryRoot) {
+    if (queryRoot.getFetchMode() == FetchMode.SHORTCUT) {
+      return EntityModel.columnName(EntityModel.field(queryRoot.getEntityClass(), queryRoot.getShortcutField()));
+    }
+    return parentColumn(queryRoot);
+  }
+
+  private String parentColumn(PlanNode node) {
+    return EntityModel.joinKey(EntityModel.field(node.getParent().getEntityClass(), node.getRelationField())).column();
+  }
+
+  private String expression(PlanNode node, Projection projection) {
+    String expression = projection.expression().replace("{h-schema}", schema + ".");
+    return OWNER_ID.matcher(expression).replaceAll(Matcher.quoteReplacement(node.getAlias() + ".id"));
+  }
+
+  private String lateralAlias(PlanNode node) {
+    return "a" + node.getAlias().substring(1);
+  }
+
+  private String table(PlanNode node) {
+    return schema + "." + EntityModel.tableName(node.getEntityClass());
+  }
+}
@@ -1,10 +1,55 @@
 package com.graph.graphservice.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import com.graph.graphservice.dto.ContractVersion;
 import com.graph.graphservice.entity.ContractEntity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ContractRepository extends JpaRepository<ContractEntity, UUID> {
+public interface ContractRepository
+    extends JpaRepository<ContractEntity, UUID>, ContractSummaryMaintainingRepository {
+
+  // Sadece contract PK index'i okunur, aggregate yüklenmez
+  @Query("select new com.graph.graphservice.dto.ContractVersion(c.id, c.version) from ContractEntity c where c.id in :ids")
+  List<ContractVersion> findVersions(@Param("ids") Collection<UUID> ids);
+
+  // Aynı contract'ı yazan istekler sırayla çalışır: ikisi de yeni id'yi yok görüp eklemeye çalışmaz.
+  // Kilitler anahtar sırasıyla alınır, aynı id'leri yazan iki istek birbirini deadlock'a sokmaz
+  @Query(nativeQuery = true, value = "select count(*) from (select pg_advisory_xact_lock(k) from "
+      + "(select distinct hashtextextended(cast(id as text), 0) as k from unnest(:ids) as t(id) order by k) keys"
+      + ") locks")
+  long lockIds(@Param("ids") UUID[] ids);
+
+  // Native sorgu saveAll'un yeniden eklediği satırları görmeli, aksi halde hiçbir satır güncellenmez
+  @Modifying(flushAutomatically = true)
+  @Query(nativeQuery = true, value = "update {h-schema}contract c set version = v.version "
+      + "from unnest(:ids, :versions) as v(id, version) where c.id = v.id")
+  int updateVersions(@Param("ids") UUID[] ids, @Param("versions") long[] versions);
+
+  // Aggregate'i silmek için child'dan parent'a doğru sırayla çağrılmalı
+  @Modifying
+  @Query("delete from ReinstatementEntity r where r.contract.id in :contractIds")
+  int deleteReinstatementsByContractIds(@Param("contractIds") Collection<UUID> contractIds);
+
+  @Modifying
+  @Query("delete from LayerEntity l where l.contract.id in :contractIds")
+  int deleteLayersByContractIds(@Param("contractIds") Collection<UUID> contractIds);
+
+  @Modifying
+  @Query("delete from ContractBranchEntity b where b.contract.id in :contractIds")
+  int deleteCoveragesByContractIds(@Param("contractIds") Collection<UUID> contractIds);
+
+  @Modifying
+  @Query("delete from ContractDetailEntity d where d.contract.id in :contractIds")
+  int deleteContractDetailsByContractIds(@Param("contractIds") Collection<UUID> contractIds);
+
+  @Modifying
+  @Query("delete from ContractEntity c where c.id in :contractIds")
+  int deleteContractsByIds(@Param("contractIds") Collection<UUID> contractIds);
 }
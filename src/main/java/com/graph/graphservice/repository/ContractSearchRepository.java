@@ -0,0 +1,102 @@
+package com.graph.graphservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import com.graph.graphservice.dto.ContractFilter;
+import com.graph.graphservice.entity.ContractBranchEntity;
+import com.graph.graphservice.entity.ContractDetailEntity;
+import com.graph.graphservice.entity.ContractEntity;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Resolves a {@link ContractFilter} to the ids of the matching contracts, entirely in SQL. The ids
+ * are then projected by {@link DynamicContractRepositoryV3}, so filtering never multiplies rows by
+ * the joins the projection needs.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContractSearchRepository {
+  private final EntityManager entityManager;
+
+  // UUIDv7 id sırası oluşturulma sırasıdır
+  @Transactional(readOnly = true)
+  public List<UUID> findContractIds(ContractFilter filter, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
+    Root<ContractEntity> contract = cq.from(ContractEntity.class);
+
+    List<Predicate> predicates = new ArrayList<>();
+    if (filter != null) {
+      if (filter.contractStatus() != null) {
+        predicates.add(cb.equal(contract.get("contractStatus"), filter.contractStatus()));
+      }
+
+      // Coverage join'i contract satırlarını çoğaltacağı için EXISTS ile filtreleniyor
+      if (filter.branches() != null && !filter.branches().isEmpty()) {
+        Subquery<Integer> coverage = cq.subquery(Integer.class);
+        Root<ContractBranchEntity> branch = coverage.from(ContractBranchEntity.class);
+        coverage.select(cb.literal(1))
+            .where(cb.equal(branch.get("contract"), contract),
+                branch.get("branchEnum").in(filter.branches()));
+        predicates.add(cb.exists(coverage));
+      }
+
+      if (hasDateRange(filter)) {
+        // Detail one-to-one, inner join satır çoğaltmaz
+        Join<ContractEntity, ContractDetailEntity> detail = contract.join("contractDetail");
+        addRange(cb, predicates, detail.get("startDate"), filter.startDateFrom(), filter.startDateTo());
+        addRange(cb, predicates, detail.get("endDate"), filter.endDateFrom(), filter.endDateTo());
+      }
+    }
+
+    cq.select(contract.get("id"))
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(cb.asc(contract.get("id")));
+
+    return entityManager.createQuery(cq)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  private boolean hasDateRange(ContractFilter filter) {
+    return filter.startDateFrom() != null || filter.startDateTo() != null
+        || filter.endDateFrom() != null || filter.endDateTo() != null;
+  }
+
+  private void addRange(CriteriaBuilder cb,
+                        List<Predicate> predicates,
+                        Path<LocalDateTime> path,
+                        String from,
+                        String to) {
+    if (from != null) {
+      predicates.add(cb.greaterThanOrEqualTo(path, parseDate(from)));
+    }
+    if (to != null) {
+      predicates.add(cb.lessThanOrEqualTo(path, parseDate(to)));
+    }
+  }
+
+  private LocalDateTime parseDate(String value) {
+    try {
+      return LocalDateTime.parse(value);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid date: " + value, e);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.graph.graphservice.repository;
+
+import java.util.List;
+
+import com.graph.graphservice.entity.ContractEntity;
+
+/**
+ * Overrides the save methods of {@link ContractRepository} so that every contract written through it
+ * also refreshes its {@code contract_summary} row in the same transaction.
+ */
+public interface ContractSummaryMaintainingRepository {
+
+  <S extends ContractEntity> S save(S entity);
+
+  <S extends ContractEntity> List<S> saveAll(Iterable<S> entities);
+}
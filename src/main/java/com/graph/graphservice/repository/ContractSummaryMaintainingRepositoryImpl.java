@@ -0,0 +1,55 @@
+package com.graph.graphservice.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import com.graph.graphservice.entity.ContractEntity;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class ContractSummaryMaintainingRepositoryImpl implements ContractSummaryMaintainingRepository {
+  private final EntityManager entityManager;
+  private final ContractSummaryWriter contractSummaryWriter;
+
+  @Override
+  @Transactional
+  public <S extends ContractEntity> S save(S entity) {
+    S saved = persistOrMerge(entity);
+
+    // Summary SQL ile hesaplandığı için aggregate önce DB'ye yazılmalı
+    entityManager.flush();
+    contractSummaryWriter.refresh(List.of(saved.getId()));
+    return saved;
+  }
+
+  @Override
+  @Transactional
+  public <S extends ContractEntity> List<S> saveAll(Iterable<S> entities) {
+    List<S> saved = new ArrayList<>();
+    List<UUID> ids = new ArrayList<>();
+    for (S entity : entities) {
+      S result = persistOrMerge(entity);
+      saved.add(result);
+      ids.add(result.getId());
+    }
+
+    entityManager.flush();
+    contractSummaryWriter.refresh(ids);
+    return saved;
+  }
+
+  // SimpleJpaRepository.save ile aynı: yeni ise persist, değilse merge
+  private <S extends ContractEntity> S persistOrMerge(S entity) {
+    if (entity.isNew()) {
+      entityManager.persist(entity);
+      return entity;
+    }
+    return entityManager.merge(entity);
+  }
+}
@@ -0,0 +1,12 @@
+package com.graph.graphservice.repository;
+
+import java.util.UUID;
+
+import com.graph.graphservice.entity.ContractSummaryEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface ContractSummaryRepository
+    extends JpaRepository<ContractSummaryEntity, UUID>, JpaSpecificationExecutor<ContractSummaryEntity> {
+}
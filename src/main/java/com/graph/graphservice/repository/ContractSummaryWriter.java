@@ -0,0 +1,68 @@
+package com.graph.graphservice.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes {@code contract_summary} rows from the normalized tables with a single upsert. Rows that
+ * did not change are left untouched, so a rebuild only writes the drifted ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContractSummaryWriter {
+  private static final String UPSERT = """
+      insert into {h-schema}contract_summary (contract_id, contract_no, contract_name, contract_status,
+                                              branches, start_date, end_date, total_premium, layer_count)
+      select c.id,
+             c.contract_no,
+             c.contract_name,
+             c.contract_status,
+             coalesce((select array_agg(distinct cb.branch_enum order by cb.branch_enum)
+                       from {h-schema}contract_branch cb where cb.contract_id = c.id), cast(array[] as varchar[])),
+             cd.start_date,
+             cd.end_date,
+             coalesce((select sum(cb.premium_amount) from {h-schema}contract_branch cb where cb.contract_id = c.id), 0),
+             (select count(*) from {h-schema}layer l where l.contract_id = c.id)
+      from {h-schema}contract c
+      left join {h-schema}contract_detail cd on cd.contract_id = c.id
+      %s
+      on conflict (contract_id) do update
+      set contract_no = excluded.contract_no,
+          contract_name = excluded.contract_name,
+          contract_status = excluded.contract_status,
+          branches = excluded.branches,
+          start_date = excluded.start_date,
+          end_date = excluded.end_date,
+          total_premium = excluded.total_premium,
+          layer_count = excluded.layer_count
+      where (contract_summary.*) is distinct from (excluded.*)
+      """;
+
+  private final EntityManager entityManager;
+
+  // Contract satırları flush edilmiş olmalı
+  @Transactional
+  public int refresh(Collection<UUID> contractIds) {
+    if (contractIds.isEmpty()) {
+      return 0;
+    }
+
+    return entityManager.createNativeQuery(UPSERT.formatted("where c.id in (:contractIds)"))
+        .setParameter("contractIds", contractIds)
+        .executeUpdate();
+  }
+
+  // Repository dışından (COPY seed, elle yapılan SQL) gelen sapmaları düzeltir
+  @Transactional
+  public int rebuild() {
+    return entityManager.createNativeQuery(UPSERT.formatted(""))
+        .executeUpdate();
+  }
+}
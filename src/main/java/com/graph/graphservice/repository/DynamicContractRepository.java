@@ -27,12 +27,14 @@ import lombok.RequiredArgsConstructor;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class DynamicContractRepository {
   private final EntityManager entityManager;
 
+  @Transactional(readOnly = true)
   public ContractEntity findContractDynamic(UUID contractId,
                                             Collection<String> contractFields,
                                             Collection<String> contractDetailFields,
@@ -139,6 +141,12 @@ public class DynamicContractRepository {
       case "contractNo" -> contract.setContractNo((String) value);
       case "renewalNo" -> contract.setRenewalNo((Integer) value);
       case "endorsementNo" -> contract.setEndorsementNo((Integer) value);
+      case "version" -> contract.setVersion((Long) value);
+      case "totalPremium" -> contract.setTotalPremium((BigDecimal) value);
+      case "layerCount" -> contract.setLayerCount((Integer) value);
+      case "reinstatementCount" -> contract.setReinstatementCount((Integer) value);
+      case "totalLossLimit" -> contract.setTotalLossLimit((BigDecimal) value);
+      case "totalDeductible" -> contract.setTotalDeductible((BigDecimal) value);
     }
   }
 
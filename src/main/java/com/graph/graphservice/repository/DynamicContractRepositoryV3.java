@@ -26,35 +26,69 @@ import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
 
 import com.graph.graphservice.aspect.ArtificialRelation;
+import com.graph.graphservice.deadline.QueryDeadline;
 import com.graph.graphservice.entity.ContractEntity;
 import com.graph.graphservice.entity.LayerEntity;
 import com.graph.graphservice.entity.ReinstatementEntity;
+import com.graph.graphservice.plan.PlanCostModel;
 import com.graph.graphservice.utils.GraphQLFieldCollector;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class DynamicContractRepositoryV3 {
   private final EntityManager entityManager;
+  private final PlanCostModel planCostModel;
+
+  /**
+   * A to-many collection loaded through an {@link ArtificialRelation} of its element type instead of
+   * joining it under its parent: {@code select ... from target where target.rootField.id in (:rootIds)},
+   * grouped by {@code target.parentField}.
+   */
+  private record ShortcutFetch(Class<?> parentClass,
+                               String collectionField,
+                               Class<?> targetClass,
+                               String rootField,
+                               String parentField) {
+  }
 
+  @Transactional(readOnly = true)
   public <T> T findEntityDynamic(UUID entityId,
                                  Class<T> entityClass,
                                  Map<Class<?>, Set<String>> selectedFields) {
+    List<T> entities = findEntitiesDynamic(List.of(entityId), entityClass, selectedFields);
+    return entities.isEmpty() ? null : entities.get(0);
+  }
+
+  // Sonuçlar verilen id sırasıyla döner, bulunamayan id'ler atlanır
+  @Transactional(readOnly = true)
+  public <T> List<T> findEntitiesDynamic(Collection<UUID> entityIds,
+                                         Class<T> entityClass,
+                                         Map<Class<?>, Set<String>> selectedFields) {
 
     if (selectedFields == null || selectedFields.isEmpty()) {
       log.warn("No fields selected for entity: {}", entityClass.getSimpleName());
-      return null;
+      return List.of();
+    }
+
+    if (entityIds.isEmpty()) {
+      return List.of();
     }
 
     Map<Class<?>, Set<String>> filteredFields = selectedFields.entrySet().stream()
         .filter(entry -> isEntityClass(entry.getKey()))
         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
+    // Artificial relation üzerinden ayrı sorgu daha ucuzsa o collection ana join'den çıkarılır
+    List<ShortcutFetch> shortcuts = planShortcuts(entityClass, filteredFields, entityIds.size());
+    Map<Class<?>, Set<String>> joinedFields = withoutShortcuts(filteredFields, shortcuts);
+
     CriteriaBuilder cb = entityManager.getCriteriaBuilder();
     CriteriaQuery<Tuple> cq = cb.createTupleQuery();
     Root<T> root = cq.from(entityClass);
@@ -62,31 +96,261 @@ public class DynamicContractRepositoryV3 {
     List<Selection<?>> selections = new ArrayList<>();
     Map<Class<?>, Map<Object, Object>> entityMaps = new HashMap<>();
 
-    buildSelectionsRecursively(root, selections, filteredFields, entityMaps, "");
+    buildSelectionsRecursively(root, selections, joinedFields, entityMaps, "");
 
     cq.multiselect(selections)
-        .where(cb.equal(root.get("id"), entityId))
+        .where(entityIds.size() == 1
+            ? cb.equal(root.get("id"), entityIds.iterator().next())
+            : root.get("id").in(entityIds))
         .distinct(true);
 
     try {
       List<Tuple> result = entityManager.createQuery(cq).getResultList();
 
       if (result.isEmpty()) {
-        return null;
+        return List.of();
       }
 
       logTupleContents(result);
-      T mappedEntity = mapResultToEntity(result, entityClass, filteredFields, entityMaps);
+      Map<Object, T> mappedEntities = mapResultToEntities(result, entityClass, joinedFields, entityMaps);
+      for (ShortcutFetch shortcut : shortcuts) {
+        QueryDeadline.checkCurrent();
+        fetchShortcut(shortcut, mappedEntities, joinedFields, filteredFields.get(shortcut.targetClass()));
+      }
 
-      logMappedEntity(mappedEntity);
+      List<T> ordered = new ArrayList<>(mappedEntities.size());
+      for (UUID entityId : entityIds) {
+        T mappedEntity = mappedEntities.get(entityId);
+        if (mappedEntity != null) {
+          logMappedEntity(mappedEntity);
+          ordered.add(mappedEntity);
+        }
+      }
 
-      return mappedEntity;
+      return ordered;
     } catch (Exception e) {
       log.error("Error executing dynamic query for {}: {}", entityClass.getSimpleName(), e.getMessage(), e);
       throw new RuntimeException("Query execution failed", e);
     }
   }
 
+  private List<ShortcutFetch> planShortcuts(Class<?> rootClass,
+                                            Map<Class<?>, Set<String>> selectedFields,
+                                            int rootCount) {
+    List<ShortcutFetch> candidates = new ArrayList<>();
+    collectShortcutCandidates(rootClass, rootClass, selectedFields, candidates, new HashSet<>());
+
+    List<ShortcutFetch> shortcuts = new ArrayList<>();
+    for (ShortcutFetch candidate : candidates) {
+      // Join yolu vs. collection'sız ana sorgu + kök id'leriyle ayrı sorgu, planner ile aynı maliyet modeli
+      double joinRows = planCostModel.cost(
+          new double[]{rootCount * estimateRows(rootClass, selectedFields, null, new HashSet<>())},
+          new double[]{rootCount});
+      double shortcutRows = planCostModel.cost(
+          new double[]{rootCount * estimateRows(rootClass, selectedFields, candidate, new HashSet<>()),
+              rootCount * planCostModel.fanOut(rootClass, candidate.targetClass())},
+          new double[]{rootCount, rootCount});
+
+      log.debug("Access path for {}.{}: join ~{} rows, via {}.{} ~{} rows",
+          candidate.parentClass().getSimpleName(), candidate.collectionField(), Math.round(joinRows),
+          candidate.targetClass().getSimpleName(), candidate.rootField(), Math.round(shortcutRows));
+
+      if (shortcutRows < joinRows) {
+        shortcuts.add(candidate);
+      }
+    }
+    return shortcuts;
+  }
+
+  // Kök altındaki (doğrudan kök collection'ı olmayan) collection'lardan, elemanı köke
+  // artificial relation ile bağlı ve alt ilişkisi seçilmemiş olanlar aday olur
+  private void collectShortcutCandidates(Class<?> rootClass,
+                                         Class<?> currentClass,
+                                         Map<Class<?>, Set<String>> selectedFields,
+                                         List<ShortcutFetch> candidates,
+                                         Set<Class<?>> visited) {
+    Set<String> fields = selectedFields.get(currentClass);
+    if (fields == null || !visited.add(currentClass)) {
+      return;
+    }
+
+    for (String field : fields) {
+      String cleanFieldName = cleanFieldName(field);
+      if (!isRelationshipField(currentClass, cleanFieldName)) {
+        continue;
+      }
+
+      Class<?> targetClass = getTargetClass(currentClass, cleanFieldName);
+      if (currentClass != rootClass
+          && isCollectionField(currentClass, cleanFieldName)
+          && !hasSelectedRelationships(targetClass, selectedFields)) {
+        String rootField = findRelationField(targetClass, rootClass, true);
+        String parentField = findRelationField(targetClass, currentClass, false);
+        if (rootField != null && parentField != null) {
+          candidates.add(new ShortcutFetch(currentClass, cleanFieldName, targetClass, rootField, parentField));
+          continue;
+        }
+      }
+
+      collectShortcutCandidates(rootClass, targetClass, selectedFields, candidates, visited);
+    }
+    visited.remove(currentClass);
+  }
+
+  private double estimateRows(Class<?> currentClass,
+                              Map<Class<?>, Set<String>> selectedFields,
+                              ShortcutFetch excluded,
+                              Set<Class<?>> visited) {
+    Set<String> fields = selectedFields.get(currentClass);
+    if (fields == null || !visited.add(currentClass)) {
+      return 1;
+    }
+
+    // Kardeş to-many join'ler birbiriyle çarpılır (kartezyen), iç içe olanlar da
+    double rows = 1;
+    for (String field : fields) {
+      String cleanFieldName = cleanFieldName(field);
+      if (!isRelationshipField(currentClass, cleanFieldName)
+          || (excluded != null && excluded.parentClass() == currentClass
+          && excluded.collectionField().equals(cleanFieldName))) {
+        continue;
+      }
+
+      Class<?> targetClass = getTargetClass(currentClass, cleanFieldName);
+      double childRows = estimateRows(targetClass, selectedFields, excluded, visited);
+      if (isCollectionField(currentClass, cleanFieldName)) {
+        rows *= Math.max(1, planCostModel.fanOut(currentClass, targetClass) * childRows);
+      } else {
+        rows *= childRows;
+      }
+    }
+    visited.remove(currentClass);
+    return rows;
+  }
+
+  private boolean hasSelectedRelationships(Class<?> entityClass, Map<Class<?>, Set<String>> selectedFields) {
+    Set<String> fields = selectedFields.get(entityClass);
+    return fields != null && fields.stream()
+        .anyMatch(field -> isRelationshipField(entityClass, cleanFieldName(field)));
+  }
+
+  private String findRelationField(Class<?> entityClass, Class<?> relatedClass, boolean artificial) {
+    for (Field field : entityClass.getDeclaredFields()) {
+      if (field.getType().equals(relatedClass)
+          && field.isAnnotationPresent(ArtificialRelation.class) == artificial) {
+        return field.getName();
+      }
+    }
+    return null;
+  }
+
+  private Map<Class<?>, Set<String>> withoutShortcuts(Map<Class<?>, Set<String>> selectedFields,
+                                                      List<ShortcutFetch> shortcuts) {
+    if (shortcuts.isEmpty()) {
+      return selectedFields;
+    }
+
+    Map<Class<?>, Set<String>> joinedFields = new HashMap<>();
+    selectedFields.forEach((entityClass, fields) -> joinedFields.put(entityClass, new HashSet<>(fields)));
+    for (ShortcutFetch shortcut : shortcuts) {
+      joinedFields.get(shortcut.parentClass()).remove(shortcut.collectionField());
+      joinedFields.remove(shortcut.targetClass());
+    }
+    return joinedFields;
+  }
+
+  private void fetchShortcut(ShortcutFetch shortcut,
+                             Map<Object, ?> rootEntities,
+                             Map<Class<?>, Set<String>> joinedFields,
+                             Set<String> targetFields) throws Exception {
+    Map<Object, Object> parents = new HashMap<>();
+    for (Object rootEntity : rootEntities.values()) {
+      collectInstances(rootEntity, shortcut.parentClass(), joinedFields, parents, new HashSet<>());
+    }
+    if (parents.isEmpty()) {
+      return;
+    }
+
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    Root<?> root = cq.from(shortcut.targetClass());
+
+    List<Selection<?>> selections = new ArrayList<>();
+    for (String field : targetFields) {
+      String cleanFieldName = cleanFieldName(field);
+      selections.add(root.get(cleanFieldName).alias(cleanFieldName));
+    }
+    selections.add(root.get(shortcut.parentField()).get("id").alias("__parentId"));
+
+    // reinstatement.contract_id gibi artificial FK üzerinden tek index'li sorgu
+    cq.multiselect(selections)
+        .where(root.get(shortcut.rootField()).get("id").in(rootEntities.keySet()));
+
+    List<Tuple> rows = entityManager.createQuery(cq).getResultList();
+    log.debug("Shortcut fetch {} via {}.{}: {} rows", shortcut.collectionField(),
+        shortcut.targetClass().getSimpleName(), shortcut.rootField(), rows.size());
+
+    for (Tuple tuple : rows) {
+      Object parent = parents.get(tuple.get("__parentId"));
+      if (parent == null) {
+        continue;
+      }
+
+      Object child = shortcut.targetClass().getDeclaredConstructor().newInstance();
+      for (String field : targetFields) {
+        String cleanFieldName = cleanFieldName(field);
+        Object value = tuple.get(cleanFieldName);
+        if (value != null) {
+          setFieldValue(child, cleanFieldName, value);
+        }
+      }
+
+      getOrCreateCollection(parent, shortcut.collectionField()).add(child);
+      setBackReference(parent, child, shortcut.collectionField(), shortcut.parentClass());
+    }
+  }
+
+  // Ana sorgudan kurulan graph'ta verilen tipteki entity'leri id'leriyle toplar
+  private void collectInstances(Object entity,
+                                Class<?> type,
+                                Map<Class<?>, Set<String>> selectedFields,
+                                Map<Object, Object> instances,
+                                Set<Object> visited) throws Exception {
+    if (entity == null || !visited.add(entity)) {
+      return;
+    }
+
+    if (type.isInstance(entity)) {
+      Field idField = entity.getClass().getDeclaredField("id");
+      idField.setAccessible(true);
+      instances.put(idField.get(entity), entity);
+      return;
+    }
+
+    Set<String> fields = selectedFields.get(entity.getClass());
+    if (fields == null) {
+      return;
+    }
+
+    for (String field : fields) {
+      String cleanFieldName = cleanFieldName(field);
+      if (!isRelationshipField(entity.getClass(), cleanFieldName)) {
+        continue;
+      }
+
+      Field relationField = entity.getClass().getDeclaredField(cleanFieldName);
+      relationField.setAccessible(true);
+      Object related = relationField.get(entity);
+      if (related instanceof Collection<?> collection) {
+        for (Object element : collection) {
+          collectInstances(element, type, selectedFields, instances, visited);
+        }
+      } else {
+        collectInstances(related, type, selectedFields, instances, visited);
+      }
+    }
+  }
+
   private void logMappedEntity(Object entity) {
     if (entity != null && log.isDebugEnabled()) {
       log.debug("=== Mapped Entity Contents ===");
@@ -194,22 +458,22 @@ public class DynamicContractRepositoryV3 {
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private <T> T mapResultToEntity(List<Tuple> result,
-                                  Class<T> entityClass,
-                                  Map<Class<?>, Set<String>> selectedFields,
-                                  Map<Class<?>, Map<Object, Object>> entityMaps) {
+  private <T> Map<Object, T> mapResultToEntities(List<Tuple> result,
+                                                Class<T> entityClass,
+                                                Map<Class<?>, Set<String>> selectedFields,
+                                                Map<Class<?>, Map<Object, Object>> entityMaps) {
 
     try {
       // Tüm entity'leri toplamak için yeni bir yaklaşım
       Map<String, Object> entityCache = new HashMap<>();
-      T rootEntity = null;
+      Map<Object, T> rootEntities = new HashMap<>();
 
       for (Tuple tuple : result) {
-        rootEntity = processTupleAndBuildEntities(tuple, entityClass, selectedFields, entityCache, "");
+        T rootEntity = processTupleAndBuildEntities(tuple, entityClass, selectedFields, entityCache, "");
+        rootEntities.putIfAbsent(getValueSafely(tuple, "id"), rootEntity);
       }
 
-      return rootEntity;
+      return rootEntities;
     } catch (Exception e) {
       log.error("Error mapping result to entity {}: {}", entityClass.getSimpleName(), e.getMessage(), e);
       throw new RuntimeException("Entity mapping failed for: " + entityClass.getSimpleName(), e);
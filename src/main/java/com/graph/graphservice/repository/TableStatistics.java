@@ -0,0 +1,165 @@
+package com.graph.graphservice.repository;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.Session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Planner statistics of the entity tables ({@code pg_class.reltuples} and {@code pg_stats.n_distinct}
+ * of the join columns), cached for a minute. Used by the dynamic engine to compare access paths, so it
+ * only needs to be roughly right.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TableStatistics {
+  private static final long REFRESH_NANOS = TimeUnit.MINUTES.toNanos(1);
+  // Hiç ANALYZE edilmemiş tablo (reltuples = -1) için varsayılan
+  private static final double UNKNOWN_ROWS = -1;
+
+  private final EntityManager entityManager;
+
+  @Value("${spring.jpa.properties.hibernate.default_schema:graph}")
+  private String schema;
+
+  private volatile Map<String, Double> rowCounts = Map.of();
+  private volatile Map<String, Double> distinctCounts = Map.of();
+  private volatile long loadedAt;
+
+  /**
+   * Average number of {@code child} rows per {@code parent} row that has any, or {@code defaultFanOut}
+   * when the tables have no statistics yet. Parents without children still produce one row in a
+   * left join, so they are left out of the average.
+   */
+  public double fanOut(Class<?> parent, Class<?> child, double defaultFanOut) {
+    double childRows = rowCount(child);
+    if (childRows < 0) {
+      return defaultFanOut;
+    }
+
+    double parents = distinctParents(parent, child, childRows);
+    if (parents <= 0) {
+      parents = rowCount(parent);
+    }
+    return parents > 0 ? childRows / parents : defaultFanOut;
+  }
+
+  public double rowCount(Class<?> entityClass) {
+    Table table = entityClass.getAnnotation(Table.class);
+    if (table == null) {
+      return UNKNOWN_ROWS;
+    }
+    return currentRowCounts().getOrDefault(table.name(), UNKNOWN_ROWS);
+  }
+
+  private double distinctParents(Class<?> parent, Class<?> child, double childRows) {
+    Table table = child.getAnnotation(Table.class);
+    String joinColumn = joinColumn(parent, child);
+    if (table == null || joinColumn == null) {
+      return -1;
+    }
+
+    currentRowCounts();
+    Double distinct = distinctCounts.get(table.name() + "." + joinColumn);
+    if (distinct == null) {
+      return -1;
+    }
+    // Negatif n_distinct satır sayısına oranı ifade eder
+    return distinct >= 0 ? distinct : -distinct * childRows;
+  }
+
+  private String joinColumn(Class<?> parent, Class<?> child) {
+    for (Field field : child.getDeclaredFields()) {
+      JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+      if (joinColumn != null && field.getType().equals(parent)) {
+        return joinColumn.name();
+      }
+    }
+    return null;
+  }
+
+  private Map<String, Double> currentRowCounts() {
+    if (System.nanoTime() - loadedAt > REFRESH_NANOS) {
+      refresh();
+    }
+    return rowCounts;
+  }
+
+  private synchronized void refresh() {
+    if (System.nanoTime() - loadedAt <= REFRESH_NANOS) {
+      return;
+    }
+
+    try {
+      entityManager.unwrap(Session.class).doWork(this::read);
+    } catch (RuntimeException e) {
+      log.warn("Could not read table statistics: {}", e.getMessage());
+    }
+    loadedAt = System.nanoTime();
+  }
+
+  private void read(Connection connection) throws SQLException {
+    // Çağıranın (read-only) transaction'ında okunuyorsa savepoint ile: başarısız bir sorgu PostgreSQL
+    // transaction'ını abort etmesin, ardından gelen V3 sorgusu çalışabilsin
+    Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+    try {
+      Map<String, Double> counts = new HashMap<>();
+      try (PreparedStatement statement = connection.prepareStatement("""
+          select c.relname, c.reltuples
+          from pg_class c
+          join pg_namespace n on n.oid = c.relnamespace
+          where n.nspname = ? and c.relkind = 'r'
+          """)) {
+        statement.setString(1, schema);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            counts.put(resultSet.getString(1), resultSet.getDouble(2));
+          }
+        }
+      }
+
+      Map<String, Double> distinct = new HashMap<>();
+      try (PreparedStatement statement = connection.prepareStatement("""
+          select s.tablename, s.attname, s.n_distinct
+          from pg_stats s
+          where s.schemaname = ?
+          """)) {
+        statement.setString(1, schema);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            distinct.put(resultSet.getString(1) + "." + resultSet.getString(2), resultSet.getDouble(3));
+          }
+        }
+      }
+
+      if (savepoint != null) {
+        connection.releaseSavepoint(savepoint);
+      }
+      rowCounts = counts;
+      distinctCounts = distinct;
+    } catch (SQLException e) {
+      if (savepoint != null) {
+        connection.rollback(savepoint);
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,278 @@
+package com.graph.graphservice.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Measures how far each replica is behind the primary and decides where a query reads from.
+ * <p>
+ * Every {@code heartbeatInterval} this instance writes an increasing sequence number to its row of
+ * {@code replication_heartbeat} on the primary and reads the row back on each replica. A replica that shows
+ * the latest number is caught up; otherwise its lag is the age of the first heartbeat it has not replayed
+ * yet. Replicas that cannot be reached or lag more than {@code maxLag} get no reads.
+ * <p>
+ * Read-your-writes: when a client writes, it must see a heartbeat that started after the write before
+ * reading from a replica. Until a replica has replayed that heartbeat, and therefore the write, the
+ * client's queries go to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle, DisposableBean {
+  private static final String HEARTBEAT_SQL = """
+      insert into graph.replication_heartbeat (instance_id, seq, beat_at) values (?, ?, now())
+      on conflict (instance_id) do update set seq = excluded.seq, beat_at = excluded.beat_at""";
+  private static final String PROBE_SQL = "select seq from graph.replication_heartbeat where instance_id = ?";
+  private static final String EXPIRE_SQL = "delete from graph.replication_heartbeat where beat_at < now() - interval '1 day'";
+
+  private final ReplicaRoutingProperties properties;
+  private final HikariDataSource primary;
+  private final Map<String, Replica> replicas = new LinkedHashMap<>();
+  // Uygulama instance'ı başına bir satır; birden fazla instance birbirinin sırasını bozmasın
+  private final UUID instanceId = UUID.randomUUID();
+  private final AtomicLong startedSeq = new AtomicLong();
+  private volatile long committedSeq;
+  // heartbeat sırası -> başladığı an (nanoTime), lag hesabı için
+  private final ConcurrentSkipListMap<Long, Long> beatStarts = new ConcurrentSkipListMap<>();
+  private final Map<RoutingClient, RecentWrite> recentWrites = new ConcurrentHashMap<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Counter replicaReads;
+  private final Counter recentWriteReads;
+  private final Counter laggingReads;
+  private volatile ScheduledExecutorService scheduler;
+
+  ReplicaLagMonitor(ReplicaRoutingProperties properties, HikariDataSource primary,
+                    Map<String, HikariDataSource> replicaDataSources, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.primary = primary;
+    replicaDataSources.forEach((name, dataSource) -> {
+      Replica replica = new Replica(name, dataSource);
+      replicas.put(name, replica);
+      Gauge.builder("graph.routing.replica.lag", replica, Replica::lagMillis)
+          .description("Replication lag of the replica, NaN while it cannot be measured")
+          .baseUnit("milliseconds")
+          .tag("replica", name)
+          .register(meterRegistry);
+    });
+    Gauge.builder("graph.routing.recent-writes", recentWrites, Map::size)
+        .description("Clients whose last write has not reached every replica yet")
+        .register(meterRegistry);
+    this.replicaReads = reads(meterRegistry, "replica", "caught-up");
+    this.recentWriteReads = reads(meterRegistry, "primary", "recent-write");
+    this.laggingReads = reads(meterRegistry, "primary", "replica-lag");
+  }
+
+  private static Counter reads(MeterRegistry meterRegistry, String target, String reason) {
+    return Counter.builder("graph.routing.reads")
+        .description("GraphQL queries by the data source they read from")
+        .tag("target", target)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  DataSource primaryDataSource() {
+    return primary;
+  }
+
+  Map<String, DataSource> replicaDataSources() {
+    Map<String, DataSource> dataSources = new LinkedHashMap<>();
+    replicas.forEach((name, replica) -> dataSources.put(name, replica.dataSource));
+    return dataSources;
+  }
+
+  /**
+   * @return the replica to run the client's query on, or null to read from the primary
+   */
+  public ReplicaRoute routeRead(RoutingClient client) {
+    RecentWrite write = client != null ? recentWrites.get(client) : null;
+    long required = write != null ? write.seq() : 0;
+
+    List<Replica> eligible = new ArrayList<>(replicas.size());
+    boolean anyWithinLag = false;
+    for (Replica replica : replicas.values()) {
+      if (replica.isWithinLag()) {
+        anyWithinLag = true;
+        if (replica.visibleSeq >= required) {
+          eligible.add(replica);
+        }
+      }
+    }
+    if (eligible.isEmpty()) {
+      (anyWithinLag ? recentWriteReads : laggingReads).increment();
+      return null;
+    }
+    replicaReads.increment();
+    Replica replica = eligible.get(Math.floorMod(nextReplica.getAndIncrement(), eligible.size()));
+    return new ReplicaRoute(replica.name);
+  }
+
+  /**
+   * Called after the client's write has committed on the primary.
+   */
+  public void recordWrite(RoutingClient client) {
+    if (client != null) {
+      // Şu an çalışan heartbeat yazmadan önce başlamış olabilir, bir sonrakini beklemek gerekir
+      recentWrites.put(client, new RecentWrite(startedSeq.get() + 1, System.nanoTime()));
+    }
+  }
+
+  private void tick() {
+    try {
+      beat();
+    } catch (SQLException | RuntimeException e) {
+      log.warn("Could not write the replication heartbeat: {}", e.getMessage());
+    }
+    for (Replica replica : replicas.values()) {
+      replica.probe();
+    }
+    expire();
+  }
+
+  private void beat() throws SQLException {
+    long seq = startedSeq.incrementAndGet();
+    beatStarts.put(seq, System.nanoTime());
+    try (Connection connection = primary.getConnection();
+         PreparedStatement statement = connection.prepareStatement(HEARTBEAT_SQL)) {
+      statement.setObject(1, instanceId);
+      statement.setLong(2, seq);
+      statement.executeUpdate();
+    } catch (SQLException | RuntimeException e) {
+      beatStarts.remove(seq);
+      throw e;
+    }
+    committedSeq = seq;
+  }
+
+  private void expire() {
+    long now = System.nanoTime();
+    // maxLag'den eski heartbeat'ler lag kararını değiştirmez: daha gerideki replika zaten dışarıda kalır
+    long horizon = properties.maxLag().multipliedBy(2).toNanos();
+    Map.Entry<Long, Long> oldest;
+    while ((oldest = beatStarts.firstEntry()) != null && oldest.getKey() < committedSeq
+        && now - oldest.getValue() > horizon) {
+      beatStarts.remove(oldest.getKey());
+    }
+
+    long leastVisible = replicas.values().stream().mapToLong(replica -> replica.visibleSeq).min().orElse(Long.MAX_VALUE);
+    long ttl = properties.recentWriteTtl().toNanos();
+    recentWrites.values().removeIf(write -> write.seq() <= leastVisible || now - write.atNanos() > ttl);
+  }
+
+  @Override
+  public void start() {
+    // Flyway tabloyu oluşturduktan sonra başlar; o zamana kadar replikalar ölçülmemiş sayılır ve okumalar primary'ye gider
+    try (Connection connection = primary.getConnection();
+         PreparedStatement statement = connection.prepareStatement(EXPIRE_SQL)) {
+      statement.executeUpdate();
+    } catch (SQLException e) {
+      log.warn("Could not remove stale replication heartbeats: {}", e.getMessage());
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+        .name("replica-lag-monitor")
+        .daemon(true)
+        .factory());
+    long interval = properties.heartbeatInterval().toNanos();
+    scheduler.scheduleWithFixedDelay(this::tick, 0, interval, TimeUnit.NANOSECONDS);
+    log.info("Routing GraphQL queries to {} replica(s): {}", replicas.size(), replicas.keySet());
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService running = scheduler;
+    if (running != null) {
+      running.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  // Havuzlar JPA kapandıktan sonra kapanır
+  @Override
+  public void destroy() {
+    replicas.values().forEach(replica -> replica.dataSource.close());
+    primary.close();
+  }
+
+  private record RecentWrite(long seq, long atNanos) {
+  }
+
+  private class Replica {
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile long visibleSeq = -1;
+    // -1: ölçülemedi (erişilemiyor veya henüz heartbeat yok)
+    private volatile long lagNanos = -1;
+
+    Replica(String name, HikariDataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    boolean isWithinLag() {
+      long lag = lagNanos;
+      return lag >= 0 && lag <= properties.maxLag().toNanos();
+    }
+
+    double lagMillis() {
+      long lag = lagNanos;
+      return lag >= 0 ? lag / 1_000_000.0 : Double.NaN;
+    }
+
+    void probe() {
+      long committed = committedSeq;
+      long seq;
+      try (Connection connection = dataSource.getConnection();
+           PreparedStatement statement = connection.prepareStatement(PROBE_SQL)) {
+        statement.setObject(1, instanceId);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          seq = resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (lagNanos >= 0) {
+          log.warn("Replica {} is unreachable, reading from the others: {}", name, e.getMessage());
+        }
+        lagNanos = -1;
+        return;
+      }
+
+      visibleSeq = seq;
+      if (committed == 0) {
+        lagNanos = -1;
+      } else if (seq >= committed) {
+        lagNanos = 0;
+      } else {
+        Map.Entry<Long, Long> firstMissing = beatStarts.ceilingEntry(seq + 1);
+        lagNanos = firstMissing != null ? System.nanoTime() - firstMissing.getValue() : -1;
+      }
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.graph.graphservice.routing;
+
+/**
+ * Replica chosen for one GraphQL query. It is picked once when the operation starts, so every fetcher of
+ * the operation reads the same snapshot, and bound to the thread while a data fetcher runs, where
+ * {@link ReplicaRoutingDataSource} looks it up. Without a bound route connections come from the primary.
+ */
+public record ReplicaRoute(String replica) {
+  /**
+   * GraphQL context key; when true the operation reads the primary, like
+   * {@link com.graph.graphservice.web.ContractETagResolver}'s version lookups do, so the body and its ETag
+   * come from the same database.
+   */
+  public static final String PRIMARY_ONLY = ReplicaRoute.class.getName() + ".primaryOnly";
+
+  private static final ThreadLocal<ReplicaRoute> CURRENT = new ThreadLocal<>();
+
+  static ReplicaRoute current() {
+    return CURRENT.get();
+  }
+
+  static ReplicaRoute bind(ReplicaRoute route) {
+    ReplicaRoute previous = CURRENT.get();
+    CURRENT.set(route);
+    return previous;
+  }
+
+  static void restore(ReplicaRoute previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  public Runnable wrap(Runnable task) {
+    return () -> {
+      ReplicaRoute previous = bind(this);
+      try {
+        task.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+}
@@ -0,0 +1,73 @@
+package com.graph.graphservice.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Replaces Boot's DataSource with {@link ReplicaRoutingDataSource} when {@code graph.routing.enabled} is set.
+ * The primary pool is configured like Boot's own ({@code spring.datasource}, {@code spring.datasource.hikari}),
+ * the replica pools are read-only. The pools are not beans, so JPA, Flyway and the deadline wrapper
+ * (see {@link com.graph.graphservice.deadline.DeadlineConfig}) still see a single DataSource.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "graph.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties dataSourceProperties,
+                                             ReplicaRoutingProperties properties,
+                                             Environment environment,
+                                             MeterRegistry meterRegistry) {
+    HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+    Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+    List<ReplicaRoutingProperties.Replica> configured = properties.replicas();
+    for (int i = 0; i < configured.size(); i++) {
+      ReplicaRoutingProperties.Replica replica = configured.get(i);
+      String name = replica.name() != null ? replica.name() : "replica-" + i;
+      replicas.put(name, replicaPool(name, replica, dataSourceProperties, properties));
+    }
+    return new ReplicaLagMonitor(properties, primary, replicas, meterRegistry);
+  }
+
+  // Boot'un DataSource'u yerine geçer; DataSourceAutoConfiguration bir DataSource bean'i görünce devreye girmez
+  @Bean
+  public DataSource dataSource(ReplicaLagMonitor replicaLagMonitor) {
+    return new ReplicaRoutingDataSource(replicaLagMonitor);
+  }
+
+  private HikariDataSource replicaPool(String name, ReplicaRoutingProperties.Replica replica,
+                                       DataSourceProperties dataSourceProperties,
+                                       ReplicaRoutingProperties properties) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setPoolName(name);
+    pool.setJdbcUrl(replica.url());
+    pool.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+    pool.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+    pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+    pool.setMaximumPoolSize(properties.replicaPoolSize());
+    pool.setReadOnly(true);
+    // Erişilemeyen replika ne açılışı ne de heartbeat'i bekletsin; ölçülemeyen replikaya okuma gitmez
+    pool.setInitializationFailTimeout(-1);
+    pool.setConnectionTimeout(Math.max(250, properties.heartbeatInterval().toMillis() * 2));
+    return pool;
+  }
+}
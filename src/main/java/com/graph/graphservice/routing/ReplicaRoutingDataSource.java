@@ -0,0 +1,28 @@
+package com.graph.graphservice.routing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * The application's DataSource when replica routing is on. Connections go to the replica of the
+ * {@link ReplicaRoute} bound to the thread and to the primary otherwise: mutations, REST endpoints,
+ * Flyway, the seeder and anything running outside a GraphQL query.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  ReplicaRoutingDataSource(ReplicaLagMonitor monitor) {
+    Map<Object, Object> targets = new LinkedHashMap<>(monitor.replicaDataSources());
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(monitor.primaryDataSource());
+    // Bilinmeyen bir replika adı primary'ye düşmesin, hata versin
+    setLenientFallback(false);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    ReplicaRoute route = ReplicaRoute.current();
+    return route != null ? route.replica() : null;
+  }
+}
@@ -0,0 +1,69 @@
+package com.graph.graphservice.routing;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks the data source of a query once the operation type is known and binds it to the thread around
+ * every non-trivial data fetcher, like {@link com.graph.graphservice.deadline.DeadlineInstrumentation}
+ * does with the deadline. Mutations run on the primary and, once finished, count as a write of the client.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "graph.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingInstrumentation extends SimplePerformantInstrumentation {
+  private final ReplicaLagMonitor monitor;
+
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                       InstrumentationState state) {
+    GraphQLContext context = parameters.getExecutionContext().getGraphQLContext();
+    OperationDefinition.Operation operation = parameters.getExecutionContext().getOperationDefinition().getOperation();
+    RoutingClient client = context.get(RoutingClient.class);
+
+    if (operation == OperationDefinition.Operation.QUERY && !context.getBoolean(ReplicaRoute.PRIMARY_ONLY, false)) {
+      ReplicaRoute route = monitor.routeRead(client);
+      if (route != null) {
+        context.put(ReplicaRoute.class, route);
+      }
+    } else if (operation == OperationDefinition.Operation.MUTATION) {
+      // Hatayla bitse de bir kısmı yazılmış olabilir
+      return SimpleInstrumentationContext.whenCompleted((result, throwable) -> monitor.recordWrite(client));
+    }
+    return SimpleInstrumentationContext.noOp();
+  }
+
+  @Override
+  public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                             InstrumentationFieldFetchParameters parameters,
+                                             InstrumentationState state) {
+    if (parameters.isTrivialDataFetcher()) {
+      return dataFetcher;
+    }
+    return env -> {
+      ReplicaRoute route = env.getGraphQlContext().get(ReplicaRoute.class);
+      if (route == null) {
+        return dataFetcher.get(env);
+      }
+      ReplicaRoute previous = ReplicaRoute.bind(route);
+      try {
+        return dataFetcher.get(env);
+      } finally {
+        ReplicaRoute.restore(previous);
+      }
+    };
+  }
+}
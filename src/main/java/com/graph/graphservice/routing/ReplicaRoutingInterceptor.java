@@ -0,0 +1,38 @@
+package com.graph.graphservice.routing;
+
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts the {@link RoutingClient} of HTTP and WebSocket operations into the GraphQL context, so
+ * {@link ReplicaRoutingInstrumentation} can keep a client's reads on the primary right after its writes.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "graph.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingInterceptor implements WebGraphQlInterceptor {
+  private final ReplicaRoutingProperties properties;
+
+  @Override
+  public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+    InetSocketAddress remoteAddress = request.getRemoteAddress();
+    RoutingClient client = RoutingClient.of(request.getHeaders().getFirst(properties.clientHeader()),
+        remoteAddress != null ? remoteAddress.getHostString() : null);
+    if (client != null) {
+      request.configureExecutionInput((input, builder) -> {
+        input.getGraphQLContext().put(RoutingClient.class, client);
+        return input;
+      });
+    }
+    return chain.next(request);
+  }
+}
@@ -0,0 +1,39 @@
+package com.graph.graphservice.routing;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled           route GraphQL queries to the replicas; when false there is a single pool to
+ *                          {@code spring.datasource} and nothing below applies
+ * @param replicas          read replicas of the {@code spring.datasource} database
+ * @param replicaPoolSize   connections per replica pool
+ * @param maxLag            a replica further behind the primary than this gets no reads
+ * @param heartbeatInterval how often the heartbeat is written on the primary and read back on the replicas
+ * @param recentWriteTtl    how long a client's write is tracked at most; after that its reads go to any
+ *                          replica within {@code maxLag}
+ * @param clientHeader      header identifying the client for read-your-writes; the remote address when absent
+ */
+@ConfigurationProperties(prefix = "graph.routing")
+public record ReplicaRoutingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Replica> replicas,
+    @DefaultValue("2") int replicaPoolSize,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("1s") Duration heartbeatInterval,
+    @DefaultValue("1m") Duration recentWriteTtl,
+    @DefaultValue("X-Client-Id") String clientHeader
+) {
+
+  /**
+   * @param name     used in pool names and metric tags; {@code replica-<index>} when absent
+   * @param url      JDBC url of the replica
+   * @param username defaults to {@code spring.datasource.username}
+   * @param password defaults to {@code spring.datasource.password}
+   */
+  public record Replica(String name, String url, String username, String password) {
+  }
+}
@@ -0,0 +1,35 @@
+package com.graph.graphservice.routing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The REST endpoints under {@code /contract} write to the primary (seeding, dummy contracts); a client
+ * calling them reads its own writes afterwards just as after a mutation.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "graph.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingWebConfig implements WebMvcConfigurer {
+  private final ReplicaLagMonitor monitor;
+  private final ReplicaRoutingProperties properties;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new HandlerInterceptor() {
+      @Override
+      public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                  Exception ex) {
+        monitor.recordWrite(RoutingClient.of(request.getHeader(properties.clientHeader()), request.getRemoteAddr()));
+      }
+    }).addPathPatterns("/contract/**");
+  }
+}
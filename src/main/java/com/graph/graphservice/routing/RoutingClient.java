@@ -0,0 +1,16 @@
+package com.graph.graphservice.routing;
+
+/**
+ * Who sent a request, as far as read-your-writes is concerned: the client header when present, the remote
+ * address otherwise. Travels in the {@link graphql.GraphQLContext} of GraphQL operations.
+ */
+public record RoutingClient(String id) {
+
+  // İkisi de yoksa istemci takip edilemez, okumaları sadece lag'e göre yönlenir
+  static RoutingClient of(String header, String remoteAddress) {
+    if (header != null && !header.isBlank()) {
+      return new RoutingClient("client:" + header.trim());
+    }
+    return remoteAddress != null ? new RoutingClient("address:" + remoteAddress) : null;
+  }
+}
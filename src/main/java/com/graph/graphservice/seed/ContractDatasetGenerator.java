@@ -0,0 +1,148 @@
+package com.graph.graphservice.seed;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import com.github.javafaker.Faker;
+import com.graph.graphservice.entity.BranchEnum;
+import com.graph.graphservice.entity.ContractStatusEnum;
+import com.graph.graphservice.utils.UuidV7;
+
+/**
+ * Generates contract aggregates chunk by chunk. Every chunk draws from its own random stream derived
+ * from the seed and the chunk index, so the dataset is identical regardless of how many threads
+ * generate it or in which order the chunks are produced.
+ */
+public class ContractDatasetGenerator {
+  private static final int NAME_POOL_SIZE = 10_000;
+  private static final BranchEnum[] BRANCHES = BranchEnum.values();
+
+  private final SeedProperties properties;
+  private final long contracts;
+  private final long seed;
+  private final List<String> companyNames;
+  private final long baseEpochMillis;
+
+  public ContractDatasetGenerator(SeedProperties properties, long contracts, long seed) {
+    this.properties = properties;
+    this.contracts = contracts;
+    this.seed = seed;
+    this.companyNames = companyNames(seed);
+    this.baseEpochMillis = properties.getReferenceDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  public SeedChunk generate(long chunkIndex) {
+    long from = chunkIndex * properties.getChunkSize();
+    long to = Math.min(from + properties.getChunkSize(), contracts);
+
+    SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + chunkIndex);
+    SeedChunk chunk = new SeedChunk(chunkIndex);
+    for (long contractIndex = from; contractIndex < to; contractIndex++) {
+      generateContract(chunk, random, contractIndex);
+    }
+    return chunk;
+  }
+
+  public long chunkCount() {
+    return (contracts + properties.getChunkSize() - 1) / properties.getChunkSize();
+  }
+
+  private void generateContract(SeedChunk chunk, SplittableRandom random, long contractIndex) {
+    boolean isFinalized = random.nextDouble() < properties.getFinalizedRatio();
+    // UUIDv7 zaman damgası contract sırasına göre ilerler, id'ler yükleme sırasıyla artan olur
+    long idMillis = baseEpochMillis + contractIndex;
+    UUID contractId = nextId(random, idMillis);
+
+    SeedChunk.row(chunk.contracts,
+        contractId,
+        companyNames.get(random.nextInt(companyNames.size())),
+        String.format("%08d", contractIndex),
+        0,
+        0,
+        isFinalized ? ContractStatusEnum.FINALIZED : ContractStatusEnum.DRAFT);
+    chunk.contractCount++;
+
+    if (!isFinalized) {
+      return;
+    }
+
+    LocalDateTime reference = properties.getReferenceDate();
+    int spread = properties.getDateSpreadDays();
+    SeedChunk.row(chunk.details,
+        nextId(random, idMillis),
+        contractId,
+        reference.minusDays(random.nextInt(spread)),
+        reference.plusDays(random.nextInt(spread)));
+    chunk.detailCount++;
+
+    // Her coverage farklı bir BranchEnum
+    BranchEnum[] branches = Arrays.copyOf(BRANCHES, BRANCHES.length);
+    int coverageCount = Math.min(between(random, properties.getCoverages()), branches.length);
+    for (int i = 0; i < coverageCount; i++) {
+      int pick = i + random.nextInt(branches.length - i);
+      BranchEnum branch = branches[pick];
+      branches[pick] = branches[i];
+      branches[i] = branch;
+
+      SeedChunk.row(chunk.coverages, nextId(random, idMillis), contractId, branch, amount(random, 10_000, 500_000));
+      chunk.coverageCount++;
+    }
+
+    int layerCount = between(random, properties.getLayers());
+    for (int layerOrder = 1; layerOrder <= layerCount; layerOrder++) {
+      UUID layerId = nextId(random, idMillis);
+      SeedChunk.row(chunk.layers,
+          layerId,
+          contractId,
+          layerOrder,
+          amount(random, 100_000, 1_000_000),
+          amount(random, 100_000, 1_000_000),
+          amount(random, 10_000, 100_000),
+          amount(random, 10_000, 100_000));
+      chunk.layerCount++;
+
+      if (random.nextDouble() < properties.getReinstatementProbability()) {
+        int reinstatementCount = between(random, properties.getReinstatements());
+        for (int reinstatementOrder = 1; reinstatementOrder <= reinstatementCount; reinstatementOrder++) {
+          SeedChunk.row(chunk.reinstatements,
+              nextId(random, idMillis),
+              layerId,
+              contractId,
+              reinstatementOrder,
+              amount(random, 1, 100));
+          chunk.reinstatementCount++;
+        }
+      }
+    }
+  }
+
+  private int between(SplittableRandom random, SeedProperties.Range range) {
+    return range.min() + random.nextInt(range.max() - range.min() + 1);
+  }
+
+  private BigDecimal amount(SplittableRandom random, double min, double max) {
+    return BigDecimal.valueOf(random.nextDouble(min, max)).setScale(2, RoundingMode.HALF_UP);
+  }
+
+  private UUID nextId(SplittableRandom random, long epochMillis) {
+    return UuidV7.of(epochMillis, random.nextLong(), random.nextLong());
+  }
+
+  private static List<String> companyNames(long seed) {
+    Faker faker = new Faker(Locale.ENGLISH, new Random(seed));
+    List<String> names = new ArrayList<>(NAME_POOL_SIZE);
+    for (int i = 0; i < NAME_POOL_SIZE; i++) {
+      names.add(faker.company().name());
+    }
+    return names;
+  }
+}
@@ -0,0 +1,29 @@
+package com.graph.graphservice.seed;
+
+import com.graph.graphservice.dto.SeedReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * java -jar graph-service.jar --graph.seed.on-startup=true --graph.seed.contracts=2000000 --graph.seed.seed=7
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "graph.seed", name = "on-startup", havingValue = "true")
+public class DatasetSeedRunner implements ApplicationRunner {
+  private final DatasetSeeder datasetSeeder;
+  private final SeedProperties properties;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    SeedReport report = datasetSeeder.seed(properties.getContracts(), properties.getSeed());
+    log.info("Dataset seeded: {}", report);
+  }
+}
@@ -0,0 +1,233 @@
+package com.graph.graphservice.seed;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.graph.graphservice.dto.SeedReport;
+import com.graph.graphservice.repository.ContractSummaryWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads a generated dataset with PostgreSQL {@code COPY}: generator threads build CSV chunks in
+ * parallel, writer threads stream them into the tables, one transaction per chunk. Every writer opens
+ * its own connection outside the Hikari pool, so queries keep their pooled connections during a long
+ * seed. COPY bypasses {@link com.graph.graphservice.repository.ContractRepository}, so the summary table
+ * is rebuilt at the end.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetSeeder {
+  private final DataSourceProperties dataSourceProperties;
+  private final SeedProperties properties;
+  private final ContractSummaryWriter contractSummaryWriter;
+
+  @Value("${spring.jpa.properties.hibernate.default_schema:graph}")
+  private String schema;
+
+  public SeedReport seed(long contracts, long seed) {
+    if (contracts <= 0) {
+      throw new IllegalArgumentException("contracts must be > 0");
+    }
+
+    ContractDatasetGenerator generator = new ContractDatasetGenerator(properties, contracts, seed);
+    long chunkCount = generator.chunkCount();
+    BlockingQueue<SeedChunk> queue = new ArrayBlockingQueue<>(Math.max(2, properties.getWriterThreads() * 2));
+    Progress progress = new Progress(contracts);
+    // Üretici veya writer hatası; diğer writer'lar bekleyen chunk'ları beklemeden çıkar
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    log.info("Seeding {} contracts (seed {}) in {} chunks with {} generator / {} writer threads",
+        contracts, seed, chunkCount, properties.getGeneratorThreads(), properties.getWriterThreads());
+
+    ExecutorService generators = Executors.newFixedThreadPool(properties.getGeneratorThreads());
+    ExecutorService writers = Executors.newFixedThreadPool(properties.getWriterThreads());
+    ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+    try {
+      reporter.scheduleAtFixedRate(progress::log, properties.getProgressIntervalSeconds(),
+          properties.getProgressIntervalSeconds(), TimeUnit.SECONDS);
+
+      for (long chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+        long index = chunkIndex;
+        generators.submit(() -> {
+          try {
+            queue.put(generator.generate(index));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } catch (Throwable e) {
+            // Error (ör. OOM) da yakalanmalı, yoksa chunk hiç gelmez ve writer'lar sonsuza kadar bekler
+            failure.compareAndSet(null, e);
+          }
+        });
+      }
+
+      AtomicLong remainingChunks = new AtomicLong(chunkCount);
+      List<Future<?>> writerResults = new ArrayList<>();
+      for (int i = 0; i < properties.getWriterThreads(); i++) {
+        writerResults.add(writers.submit(() -> {
+          write(queue, remainingChunks, failure, progress);
+          return null;
+        }));
+      }
+
+      for (Future<?> result : writerResults) {
+        result.get();
+      }
+      if (failure.get() != null) {
+        throw new IllegalStateException("Chunk generation failed", failure.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Dataset seeding interrupted", e);
+    } catch (Exception e) {
+      throw new IllegalStateException("Dataset seeding failed", e);
+    } finally {
+      generators.shutdownNow();
+      writers.shutdownNow();
+      reporter.shutdownNow();
+    }
+
+    progress.log();
+    SeedReport report = progress.report(seed);
+
+    // COPY repository'yi atladığı için summary tablosu tek seferde yeniden hesaplanıyor
+    long summaryStart = System.nanoTime();
+    int summaries = contractSummaryWriter.rebuild();
+    log.info("Refreshed {} contract summaries in {} ms",
+        summaries, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - summaryStart));
+    return report;
+  }
+
+  private void write(BlockingQueue<SeedChunk> queue,
+                     AtomicLong remainingChunks,
+                     AtomicReference<Throwable> failure,
+                     Progress progress) throws SQLException, InterruptedException {
+    try (Connection connection = openConnection()) {
+      connection.setAutoCommit(false);
+      CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+      while (remainingChunks.get() > 0 && failure.get() == null) {
+        SeedChunk chunk = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (chunk == null) {
+          continue;
+        }
+
+        try {
+          copy(copyManager, "contract",
+              "id, contract_name, contract_no, renewal_no, endorsement_no, contract_status", chunk.contracts);
+          copy(copyManager, "contract_detail",
+              "id, contract_id, start_date, end_date", chunk.details);
+          copy(copyManager, "contract_branch",
+              "id, contract_id, branch_enum, premium_amount", chunk.coverages);
+          copy(copyManager, "layer",
+              "id, contract_id, layer_order, loss_limit_amount, loss_limit_amount_rc, "
+                  + "deductible_amount, deductible_amount_rc", chunk.layers);
+          copy(copyManager, "reinstatement",
+              "id, layer_id, contract_id, reinstatement_order, reinstatement_ratio", chunk.reinstatements);
+          connection.commit();
+        } catch (Exception e) {
+          connection.rollback();
+          SQLException copyFailure = new SQLException("COPY of chunk " + chunk.index + " failed", e);
+          failure.compareAndSet(null, copyFailure);
+          throw copyFailure;
+        }
+
+        // Sayaç yazılmış chunk'ları gösterir, kuyruktan alınanları değil
+        remainingChunks.decrementAndGet();
+        progress.add(chunk);
+      }
+    }
+  }
+
+  private Connection openConnection() throws SQLException {
+    // Havuzdan alınsaydı seed bitene kadar her writer bir havuz bağlantısını tutardı
+    Properties info = new Properties();
+    info.setProperty("user", dataSourceProperties.determineUsername());
+    info.setProperty("password", dataSourceProperties.determinePassword());
+    info.setProperty("ApplicationName", "graph-service seed");
+    return DriverManager.getConnection(dataSourceProperties.determineUrl(), info);
+  }
+
+  private void copy(CopyManager copyManager, String table, String columns, StringBuilder rows) throws Exception {
+    if (rows.isEmpty()) {
+      return;
+    }
+    String sql = "COPY " + schema + "." + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+    copyManager.copyIn(sql, new StringReader(rows.toString()));
+  }
+
+  private static final class Progress {
+    private final long total;
+    private final long startNanos = System.nanoTime();
+    private final LongAdder contracts = new LongAdder();
+    private final LongAdder details = new LongAdder();
+    private final LongAdder coverages = new LongAdder();
+    private final LongAdder layers = new LongAdder();
+    private final LongAdder reinstatements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    private Progress(long total) {
+      this.total = total;
+    }
+
+    void add(SeedChunk chunk) {
+      contracts.add(chunk.contractCount);
+      details.add(chunk.detailCount);
+      coverages.add(chunk.coverageCount);
+      layers.add(chunk.layerCount);
+      reinstatements.add(chunk.reinstatementCount);
+      rows.add(chunk.rowCount());
+    }
+
+    void log() {
+      long done = contracts.sum();
+      double seconds = Math.max(elapsedMillis(), 1) / 1000.0;
+      double contractsPerSecond = done / seconds;
+      long etaSeconds = contractsPerSecond > 0 ? (long) ((total - done) / contractsPerSecond) : -1;
+      log.info("Seeded {}/{} contracts ({}%), {} rows, {} rows/s, ETA {}s",
+          done, total, String.format("%.1f", done * 100.0 / total), rows.sum(),
+          String.format("%.0f", rows.sum() / seconds), etaSeconds);
+    }
+
+    SeedReport report(long seed) {
+      long durationMillis = elapsedMillis();
+      return SeedReport.builder()
+          .seed(seed)
+          .contracts(contracts.sum())
+          .contractDetails(details.sum())
+          .coverages(coverages.sum())
+          .layers(layers.sum())
+          .reinstatements(reinstatements.sum())
+          .durationMillis(durationMillis)
+          .rowsPerSecond(rows.sum() * 1000.0 / Math.max(durationMillis, 1))
+          .build();
+    }
+
+    private long elapsedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+  }
+}
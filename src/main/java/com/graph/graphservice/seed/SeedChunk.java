@@ -0,0 +1,57 @@
+package com.graph.graphservice.seed;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * CSV payloads of one chunk of generated contract aggregates, one buffer per table in foreign key order.
+ */
+public class SeedChunk {
+  final long index;
+  final StringBuilder contracts = new StringBuilder();
+  final StringBuilder details = new StringBuilder();
+  final StringBuilder coverages = new StringBuilder();
+  final StringBuilder layers = new StringBuilder();
+  final StringBuilder reinstatements = new StringBuilder();
+
+  long contractCount;
+  long detailCount;
+  long coverageCount;
+  long layerCount;
+  long reinstatementCount;
+
+  SeedChunk(long index) {
+    this.index = index;
+  }
+
+  long rowCount() {
+    return contractCount + detailCount + coverageCount + layerCount + reinstatementCount;
+  }
+
+  static void row(StringBuilder target, Object... values) {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        target.append(',');
+      }
+      append(target, values[i]);
+    }
+    target.append('\n');
+  }
+
+  private static void append(StringBuilder target, Object value) {
+    if (value == null) {
+      return;
+    }
+    if (value instanceof String text) {
+      target.append('"').append(text.replace("\"", "\"\"")).append('"');
+    } else if (value instanceof BigDecimal decimal) {
+      target.append(decimal.toPlainString());
+    } else if (value instanceof LocalDateTime || value instanceof UUID || value instanceof Number
+        || value instanceof Enum<?>) {
+      target.append(value);
+    } else {
+      throw new IllegalArgumentException("Unsupported CSV value type: " + value.getClass());
+    }
+  }
+}
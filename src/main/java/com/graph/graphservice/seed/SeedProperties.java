@@ -0,0 +1,42 @@
+package com.graph.graphservice.seed;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "graph.seed")
+public class SeedProperties {
+  /**
+   * Run the seeder once on startup (see {@link DatasetSeedRunner}).
+   */
+  private boolean onStartup = false;
+
+  private long contracts = 1_000_000;
+  private long seed = 42;
+  private int chunkSize = 5_000;
+  private int generatorThreads = Runtime.getRuntime().availableProcessors();
+  /**
+   * Every writer holds one connection of its own (outside the Hikari pool) for the whole run.
+   */
+  private int writerThreads = 2;
+  private int progressIntervalSeconds = 5;
+
+  private double finalizedRatio = 0.4;
+  private Range coverages = new Range(1, 3);
+  private Range layers = new Range(1, 8);
+  private double reinstatementProbability = 0.5;
+  private Range reinstatements = new Range(3, 5);
+  /**
+   * Detail dates are spread around this instant instead of {@code now()} so reruns produce identical rows.
+   */
+  private LocalDateTime referenceDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+  private int dateSpreadDays = 365;
+
+  public record Range(int min, int max) {
+  }
+}
@@ -0,0 +1,228 @@
+package com.graph.graphservice.service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+
+import com.graph.graphservice.dto.ContractDetailInput;
+import com.graph.graphservice.dto.ContractInput;
+import com.graph.graphservice.dto.ContractVersion;
+import com.graph.graphservice.dto.CoverageInput;
+import com.graph.graphservice.dto.LayerInput;
+import com.graph.graphservice.dto.ReinstatementInput;
+import com.graph.graphservice.dto.UpsertContractsResponse;
+import com.graph.graphservice.entity.ContractBranchEntity;
+import com.graph.graphservice.entity.ContractDetailEntity;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.entity.LayerEntity;
+import com.graph.graphservice.entity.ReinstatementEntity;
+import com.graph.graphservice.repository.ContractRepository;
+import com.graph.graphservice.utils.UuidV7;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persists full contract aggregates. Incoming aggregates replace stored ones: children of existing
+ * contracts are removed with bulk deletes and the whole tree is inserted again, so nothing is merged
+ * and every row goes through Hibernate's ordered JDBC batches. Concurrent upserts of the same contract
+ * id are serialized with transaction-scoped advisory locks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContractIngestService {
+  private final ContractRepository contractRepository;
+  private final EntityManager entityManager;
+  private final IngestProperties properties;
+
+  @Transactional
+  public UpsertContractsResponse upsertContracts(List<ContractInput> inputs) {
+    Counts counts = new Counts();
+    if (ObjectUtils.isEmpty(inputs)) {
+      return counts.toResponse();
+    }
+
+    List<ContractEntity> contracts = inputs.stream().map(this::toEntity).toList();
+    ensureUniqueIds(contracts);
+    // Kilitler transaction sonuna kadar tutulur, tüm chunk'lar için baştan tek seferde alınır
+    contractRepository.lockIds(contracts.stream().map(ContractEntity::getId).toArray(UUID[]::new));
+
+    int chunkSize = Math.max(1, properties.chunkSize());
+    for (int from = 0; from < contracts.size(); from += chunkSize) {
+      List<ContractEntity> chunk = contracts.subList(from, Math.min(from + chunkSize, contracts.size()));
+      upsertChunk(chunk, counts);
+      counts.chunks++;
+    }
+
+    log.info("Upserted {} contracts ({} inserted, {} updated) in {} chunks",
+        contracts.size(), counts.inserted, counts.updated, counts.chunks);
+    return counts.toResponse();
+  }
+
+  private void upsertChunk(List<ContractEntity> chunk, Counts counts) {
+    List<UUID> ids = chunk.stream().map(ContractEntity::getId).toList();
+    Map<UUID, Long> existingVersions = contractRepository.findVersions(ids).stream()
+        .collect(Collectors.toMap(ContractVersion::id, ContractVersion::version));
+    Set<UUID> existingIds = existingVersions.keySet();
+
+    if (!existingIds.isEmpty()) {
+      contractRepository.deleteReinstatementsByContractIds(existingIds);
+      contractRepository.deleteLayersByContractIds(existingIds);
+      contractRepository.deleteCoveragesByContractIds(existingIds);
+      contractRepository.deleteContractDetailsByContractIds(existingIds);
+      contractRepository.deleteContractsByIds(existingIds);
+    }
+
+    contractRepository.saveAll(chunk);
+    if (!existingIds.isEmpty()) {
+      continueVersions(existingVersions);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    counts.updated += existingIds.size();
+    counts.inserted += chunk.size() - existingIds.size();
+    for (ContractEntity contract : chunk) {
+      counts.add(contract);
+    }
+  }
+
+  // Delete + insert version'ı sıfırlar, yeniden yazılan contract'lar eski version'ın devamını alır
+  private void continueVersions(Map<UUID, Long> previousVersions) {
+    UUID[] ids = new UUID[previousVersions.size()];
+    long[] versions = new long[previousVersions.size()];
+    int i = 0;
+    for (Map.Entry<UUID, Long> entry : previousVersions.entrySet()) {
+      ids[i] = entry.getKey();
+      versions[i] = entry.getValue() + 1;
+      i++;
+    }
+    contractRepository.updateVersions(ids, versions);
+  }
+
+  private void ensureUniqueIds(List<ContractEntity> contracts) {
+    Set<UUID> seen = new HashSet<>();
+    for (ContractEntity contract : contracts) {
+      if (!seen.add(contract.getId())) {
+        throw new IllegalArgumentException("Duplicate contract id in input: " + contract.getId());
+      }
+    }
+  }
+
+  private ContractEntity toEntity(ContractInput input) {
+    ContractEntity contract = ContractEntity.builder()
+        .id(idOrNew(input.id()))
+        .contractName(input.contractName())
+        .contractNo(input.contractNo())
+        .renewalNo(input.renewalNo())
+        .endorsementNo(input.endorsementNo())
+        .contractStatus(input.contractStatus())
+        .build();
+
+    ContractDetailInput detail = input.contractDetail();
+    if (detail != null) {
+      contract.setContractDetail(ContractDetailEntity.builder()
+          .id(idOrNew(detail.id()))
+          .startDate(parseDate(detail.startDate()))
+          .endDate(parseDate(detail.endDate()))
+          .contract(contract)
+          .build());
+    }
+
+    Set<ContractBranchEntity> coverages = new HashSet<>();
+    for (CoverageInput coverage : nullToEmpty(input.coverages())) {
+      coverages.add(ContractBranchEntity.builder()
+          .id(idOrNew(coverage.id()))
+          .branchEnum(coverage.branchEnum())
+          .premiumAmount(coverage.premiumAmount())
+          .contract(contract)
+          .build());
+    }
+    contract.setCoverages(coverages);
+
+    Set<LayerEntity> layers = new HashSet<>();
+    for (LayerInput layerInput : nullToEmpty(input.layers())) {
+      LayerEntity layer = LayerEntity.builder()
+          .id(idOrNew(layerInput.id()))
+          .layerOrder(layerInput.layerOrder())
+          .lossLimitAmount(layerInput.lossLimitAmount())
+          .lossLimitAmountRc(layerInput.lossLimitAmountRc())
+          .deductibleAmount(layerInput.deductibleAmount())
+          .deductibleAmountRc(layerInput.deductibleAmountRc())
+          .contract(contract)
+          .build();
+
+      Set<ReinstatementEntity> reinstatements = new HashSet<>();
+      for (ReinstatementInput reinstatement : nullToEmpty(layerInput.reinstatements())) {
+        reinstatements.add(ReinstatementEntity.builder()
+            .id(idOrNew(reinstatement.id()))
+            .reinstatementOrder(reinstatement.reinstatementOrder())
+            .reinstatementRatio(reinstatement.reinstatementRatio())
+            .layer(layer)
+            .contract(contract)
+            .build());
+      }
+      layer.setReinstatements(reinstatements);
+      layers.add(layer);
+    }
+    contract.setLayers(layers);
+
+    return contract;
+  }
+
+  private UUID idOrNew(UUID id) {
+    return id != null ? id : UuidV7.next();
+  }
+
+  private LocalDateTime parseDate(String value) {
+    return value != null ? LocalDateTime.parse(value) : null;
+  }
+
+  private <T> List<T> nullToEmpty(List<T> values) {
+    return values != null ? values : List.of();
+  }
+
+  private static final class Counts {
+    private int inserted;
+    private int updated;
+    private int contractDetails;
+    private int coverages;
+    private int layers;
+    private int reinstatements;
+    private int chunks;
+
+    void add(ContractEntity contract) {
+      if (contract.getContractDetail() != null) {
+        contractDetails++;
+      }
+      coverages += contract.getCoverages().size();
+      layers += contract.getLayers().size();
+      for (LayerEntity layer : contract.getLayers()) {
+        reinstatements += layer.getReinstatements().size();
+      }
+    }
+
+    UpsertContractsResponse toResponse() {
+      return UpsertContractsResponse.builder()
+          .inserted(inserted)
+          .updated(updated)
+          .contractDetails(contractDetails)
+          .coverages(coverages)
+          .layers(layers)
+          .reinstatements(reinstatements)
+          .chunks(chunks)
+          .build();
+    }
+  }
+}
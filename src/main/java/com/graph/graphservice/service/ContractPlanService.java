@@ -0,0 +1,61 @@
+package com.graph.graphservice.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.graph.graphservice.dto.ContractQueryPlanResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.plan.LogicalPlan;
+import com.graph.graphservice.plan.LogicalPlanBuilder;
+import com.graph.graphservice.plan.PhysicalPlan;
+import com.graph.graphservice.plan.PlanCostModel;
+import com.graph.graphservice.plan.PlanExecutor;
+import com.graph.graphservice.plan.QueryPlanner;
+import com.graph.graphservice.utils.FieldNodeUtil;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Contract reads through the query planner, and the explain view of the same plans.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContractPlanService {
+  private static final String ROOT_NAME = "contract";
+
+  private final QueryPlanner queryPlanner;
+  private final PlanExecutor planExecutor;
+  private final PlanCostModel planCostModel;
+
+  @Transactional(readOnly = true)
+  public List<ContractEntity> findContracts(List<UUID> contractIds, FieldNode selection) {
+    if (contractIds.isEmpty()) {
+      return List.of();
+    }
+    LogicalPlan plan = queryPlanner.plan(selection, ContractEntity.class, contractIds.size());
+    return planExecutor.execute(plan, contractIds);
+  }
+
+  public ContractQueryPlanResponse explain(String selection, int contractCount) {
+    if (contractCount < 1) {
+      throw new IllegalArgumentException("contractCount must be > 0");
+    }
+
+    FieldNode fieldTree = FieldNodeUtil.parseSelection(selection, ROOT_NAME);
+    LogicalPlan initial = LogicalPlanBuilder.build(fieldTree, ContractEntity.class, contractCount);
+    LogicalPlan optimized = queryPlanner.plan(fieldTree, ContractEntity.class, contractCount);
+    PhysicalPlan physicalPlan = planExecutor.render(optimized);
+
+    return ContractQueryPlanResponse.builder()
+        .logicalPlan(initial.describe())
+        .optimizedPlan(optimized.describe())
+        .appliedRules(optimized.getAppliedRules())
+        .sql(physicalPlan.sql())
+        .estimatedRows(planCostModel.estimate(optimized))
+        .build();
+  }
+}
@@ -0,0 +1,197 @@
+package com.graph.graphservice.service;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+
+import com.graph.graphservice.deadline.QueryDeadline;
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.entity.ContractEntity;
+import com.graph.graphservice.mapper.ContractMapper;
+import com.graph.graphservice.plan.EntityModel;
+
+import lombok.RequiredArgsConstructor;
+
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read path for contract aggregates. Open-in-view is off, so everything the response needs is loaded
+ * inside a read-only transaction: Hibernate keeps no dirty-checking snapshots and never flushes.
+ * Entities are bytecode enhanced, so only the selected part of the aggregate is loaded: selected lazy
+ * attributes and the contract detail come with the root row through a load graph, selected collections
+ * are initialized with batch fetching and the mapper skips whatever stayed unloaded.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContractQueryService {
+  private final EntityManager entityManager;
+
+  // IN listeleri bu boyutta parçalanır; PostgreSQL bir sorguda en fazla 65535 bind parametresi kabul eder
+  @Value("${spring.jpa.properties.hibernate.default_batch_fetch_size:100}")
+  private int chunkSize;
+
+  public ContractResponse findContract(UUID contractId, FieldNode selection) {
+    return lookupContract(contractId, selection)
+        .orElseThrow(() -> new IllegalArgumentException("Contract Not Found"));
+  }
+
+  public Optional<ContractResponse> lookupContract(UUID contractId, FieldNode selection) {
+    return Optional.ofNullable(loadContract(contractId, selection)).map(ContractMapper.INSTANCE::toModel);
+  }
+
+  public List<ContractResponse> findAllContracts(FieldNode selection) {
+    List<ContractEntity> contracts = query("select c from ContractEntity c", selection).getResultList();
+    initialize(contracts, selection);
+    return ContractMapper.INSTANCE.toModels(contracts);
+  }
+
+  public List<ContractResponse> findContracts(Collection<UUID> contractIds, FieldNode selection) {
+    if (contractIds.isEmpty()) {
+      return List.of();
+    }
+    List<ContractEntity> contracts = new ArrayList<>(contractIds.size());
+    for (List<UUID> chunk : chunks(contractIds)) {
+      contracts.addAll(query("select c from ContractEntity c where c.id in :ids", selection)
+          .setParameter("ids", chunk)
+          .getResultList());
+    }
+    initialize(contracts, selection);
+    return ContractMapper.INSTANCE.toModels(contracts);
+  }
+
+  public ContractEntity loadContract(UUID contractId, FieldNode selection) {
+    List<ContractEntity> contracts = query("select c from ContractEntity c where c.id = :id", selection)
+        .setParameter("id", contractId)
+        .getResultList();
+    initialize(contracts, selection);
+    return contracts.isEmpty() ? null : contracts.get(0);
+  }
+
+  private TypedQuery<ContractEntity> query(String jpql, FieldNode selection) {
+    return entityManager.createQuery(jpql, ContractEntity.class)
+        .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, loadGraph(selection))
+        .setHint(HibernateHints.HINT_READ_ONLY, true);
+  }
+
+  // Seçilen singular attribute'lar (lazy formula grubu, inverse one-to-one detail) root satırıyla birlikte gelir
+  private EntityGraph<ContractEntity> loadGraph(FieldNode selection) {
+    EntityGraph<ContractEntity> graph = entityManager.createEntityGraph(ContractEntity.class);
+    Set<String> singularAttributes = entityManager.getMetamodel().entity(ContractEntity.class)
+        .getSingularAttributes().stream()
+        .map(Attribute::getName)
+        .collect(Collectors.toSet());
+    for (FieldNode child : children(selection)) {
+      if (singularAttributes.contains(child.getName())) {
+        graph.addAttributeNodes(child.getName());
+      }
+    }
+    return graph;
+  }
+
+  // Lazy collection'lar default_batch_fetch_size ile toplu yüklenir, transaction dışında erişilebilir kalır.
+  // Getter'lar interceptor'dan geçtiği için field yerine property üzerinden okunuyor
+  private void initialize(Collection<?> entities, FieldNode selection) {
+    for (FieldNode child : children(selection)) {
+      QueryDeadline.checkCurrent();
+      if (child.getChildren() == null || child.getChildren().isEmpty()) {
+        entities.forEach(entity -> read(entity, child.getName()));
+        continue;
+      }
+      preloadLazyAttributes(entities, child);
+      List<Object> related = entities.stream()
+          .map(entity -> read(entity, child.getName()))
+          .flatMap(value -> value instanceof Collection<?> collection
+              ? collection.stream()
+              : Stream.ofNullable(value))
+          .toList();
+      initialize(related, child);
+    }
+  }
+
+  // Collection elemanlarında seçilen lazy attribute'lar (ör. layer "rc" grubu) eleman başına ayrı select'e
+  // dönmesin diye elemanlar önce load graph ile tek sorguda yükleniyor; collection bu instance'ları kullanır
+  private void preloadLazyAttributes(Collection<?> owners, FieldNode selection) {
+    if (owners.isEmpty()) {
+      return;
+    }
+    Field relation = EntityModel.field(Hibernate.getClass(owners.iterator().next()), selection.getName());
+    OneToMany oneToMany = relation != null ? relation.getAnnotation(OneToMany.class) : null;
+    if (oneToMany == null || oneToMany.mappedBy().isEmpty()) {
+      return;
+    }
+
+    Class<?> elementClass = EntityModel.targetClass(relation);
+    List<String> lazyAttributes = children(selection).stream()
+        .map(FieldNode::getName)
+        .filter(name -> isLazyBasic(elementClass, name))
+        .distinct()
+        .toList();
+    if (lazyAttributes.isEmpty()) {
+      return;
+    }
+
+    EntityGraph<?> graph = entityManager.createEntityGraph(elementClass);
+    graph.addAttributeNodes(lazyAttributes.toArray(String[]::new));
+    String jpql = "select e from " + elementClass.getSimpleName() + " e where e." + oneToMany.mappedBy() + " in :owners";
+    for (List<?> chunk : chunks(owners)) {
+      QueryDeadline.checkCurrent();
+      entityManager.createQuery(jpql, elementClass)
+          .setParameter("owners", chunk)
+          .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, graph)
+          .setHint(HibernateHints.HINT_READ_ONLY, true)
+          .getResultList();
+    }
+  }
+
+  private <T> List<List<T>> chunks(Collection<T> values) {
+    List<T> list = List.copyOf(values);
+    List<List<T>> chunks = new ArrayList<>((list.size() + chunkSize - 1) / chunkSize);
+    for (int from = 0; from < list.size(); from += chunkSize) {
+      chunks.add(list.subList(from, Math.min(from + chunkSize, list.size())));
+    }
+    return chunks;
+  }
+
+  private boolean isLazyBasic(Class<?> entityClass, String name) {
+    Field field = EntityModel.field(entityClass, name);
+    Basic basic = field != null ? field.getAnnotation(Basic.class) : null;
+    return basic != null && basic.fetch() == FetchType.LAZY;
+  }
+
+  private Object read(Object entity, String property) {
+    BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+    if (!wrapper.isReadableProperty(property)) {
+      return null;
+    }
+    Object value = wrapper.getPropertyValue(property);
+    Hibernate.initialize(value);
+    return value;
+  }
+
+  private List<FieldNode> children(FieldNode selection) {
+    return selection != null && selection.getChildren() != null ? selection.getChildren() : List.of();
+  }
+}
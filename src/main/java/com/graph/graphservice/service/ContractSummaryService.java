@@ -0,0 +1,62 @@
+package com.graph.graphservice.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.graph.graphservice.dto.ContractSummaryResponse;
+import com.graph.graphservice.entity.ContractStatusEnum;
+import com.graph.graphservice.entity.ContractSummaryEntity;
+import com.graph.graphservice.mapper.ContractSummaryMapper;
+import com.graph.graphservice.repository.ContractSummaryRepository;
+import com.graph.graphservice.repository.ContractSummaryWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * List reads over the {@code contract_summary} read model. Pages are keyset-based on contract id, so
+ * every page is a single index range scan no matter how deep the client pages.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContractSummaryService {
+  public static final int MAX_PAGE_SIZE = 1_000;
+
+  private final ContractSummaryRepository contractSummaryRepository;
+  private final ContractSummaryWriter contractSummaryWriter;
+
+  @Transactional(readOnly = true)
+  public List<ContractSummaryResponse> findSummaries(ContractStatusEnum status, UUID after, int first) {
+    if (first < 1 || first > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    Specification<ContractSummaryEntity> spec = (root, query, cb) -> cb.conjunction();
+    if (status != null) {
+      spec = spec.and((root, query, cb) -> cb.equal(root.get("contractStatus"), status));
+    }
+    if (after != null) {
+      spec = spec.and((root, query, cb) -> cb.greaterThan(root.get("contractId"), after));
+    }
+
+    List<ContractSummaryEntity> summaries = contractSummaryRepository.findBy(spec, q -> q
+        .sortBy(Sort.by("contractId"))
+        .limit(first)
+        .all());
+
+    return ContractSummaryMapper.INSTANCE.toModels(summaries);
+  }
+
+  public int rebuild() {
+    long start = System.currentTimeMillis();
+    int rows = contractSummaryWriter.rebuild();
+    log.info("Rebuilt contract summaries: {} rows changed in {} ms", rows, System.currentTimeMillis() - start);
+    return rows;
+  }
+}
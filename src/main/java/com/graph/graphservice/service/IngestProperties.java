@@ -0,0 +1,14 @@
+package com.graph.graphservice.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param chunkSize contracts persisted per flush/clear cycle; keep it a multiple of
+ *                  {@code hibernate.jdbc.batch_size} so batches are not cut short
+ */
+@ConfigurationProperties(prefix = "graph.ingest")
+public record IngestProperties(
+    @DefaultValue("500") int chunkSize
+) {
+}
@@ -0,0 +1,82 @@
+package com.graph.graphservice.startup;
+
+import java.util.List;
+
+import com.github.javafaker.Company;
+import com.github.javafaker.Faker;
+import com.github.javafaker.Name;
+import com.graph.graphservice.aspect.ArtificialRelation;
+import com.graph.graphservice.dto.ContractResponse;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reflection metadata for the native image (see the {@code native} profile in pom.xml). The dynamic
+ * engines and the planner read and write entity fields and create entities through their no-arg
+ * constructor, GraphQL reads the DTO records through their accessors, {@code ContractSelections}
+ * rebuilds {@link ContractResponse} through its canonical constructor and the mappers are looked up by
+ * the name of their generated class. The packages are scanned while AOT processes the build, so new
+ * entities, records and mappers are covered without changes here.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+  private static final String ENTITY_PACKAGE = "com.graph.graphservice.entity";
+  private static final String DTO_PACKAGE = "com.graph.graphservice.dto";
+  private static final String MAPPER_PACKAGE = "com.graph.graphservice.mapper";
+  private static final String MAPPER_IMPLEMENTATION_SUFFIX = "Impl";
+
+  private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (Class<?> type : classes(ENTITY_PACKAGE, classLoader)) {
+      hints.reflection().registerType(type,
+          MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+          MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+    hints.reflection().registerType(ArtificialRelation.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+    bindingHints.registerReflectionHints(hints.reflection(),
+        classes(DTO_PACKAGE, classLoader).toArray(Class<?>[]::new));
+    hints.reflection().registerType(ContractResponse.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+    // Mappers.getMapper üretilen sınıfı adıyla yükleyip no-arg constructor ile oluşturuyor; @Mapper
+    // çalışma anında görünmediği için üretilmiş Impl sınıfına bakılıyor
+    for (Class<?> type : classes(MAPPER_PACKAGE, classLoader)) {
+      String implementation = type.getName() + MAPPER_IMPLEMENTATION_SUFFIX;
+      if (type.isInterface() && ClassUtils.isPresent(implementation, classLoader)) {
+        hints.reflection().registerType(TypeReference.of(implementation), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+      }
+    }
+
+    hints.resources().registerPattern(TrainingRunner.OPERATIONS);
+
+    // Seed: Faker ifadeleri (#{Name.last_name}) metotları adıyla çağırıyor, veriler en/*.yml'de
+    hints.resources().registerPattern("en.yml").registerPattern("en/*.yml");
+    for (Class<?> type : List.of(Faker.class, Company.class, Name.class)) {
+      hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+  }
+
+  private List<Class<?>> classes(String basePackage, ClassLoader classLoader) {
+    ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+      @Override
+      protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+        // Arayüzler, enum'lar ve abstract sınıflar da
+        return true;
+      }
+    };
+    scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+    scanner.addIncludeFilter((reader, factory) -> true);
+    return scanner.findCandidateComponents(basePackage).stream()
+        .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+        .toList();
+  }
+}
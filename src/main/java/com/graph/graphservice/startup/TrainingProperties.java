@@ -0,0 +1,22 @@
+package com.graph.graphservice.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled    send the operations in {@code training/operations.graphql} to the application once it
+ *                   has started, then exit; used by the {@code cds} build profile to record the class list
+ * @param contracts  number of finalized contracts the contract operations are sent for
+ * @param iterations rounds over all operations, so paths taken only after the first use (fetch statistics,
+ *                   cache hits) are loaded too
+ * @param fullScans  also send the operations that read every contract ({@code getAllContracts}); only for
+ *                   small databases, the native smoke test turns it on to cover every query
+ */
+@ConfigurationProperties(prefix = "graph.training")
+public record TrainingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("20") int contracts,
+    @DefaultValue("3") int iterations,
+    @DefaultValue("false") boolean fullScans
+) {
+}
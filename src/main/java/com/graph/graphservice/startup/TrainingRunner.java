@@ -0,0 +1,136 @@
+package com.graph.graphservice.startup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * CDS training run: sends the operations in {@code training/operations.graphql} over HTTP to the
+ * application itself, so the classes of the whole request path are loaded, then exits. The JVM writes
+ * the archive on exit (-XX:ArchiveClassesAtExit, see the {@code cds} profile in pom.xml). The
+ * {@code native} profile runs the same operations against the native binary as a smoke test; the exit
+ * code is 1 when any of them returned errors.
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=application.jsa -Dspring.aot.enabled=true -jar graph-service.jar --graph.training.enabled=true
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainingRunner implements ApplicationRunner {
+  static final String OPERATIONS = "training/operations.graphql";
+  private static final List<String> CONTRACT_OPERATIONS = List.of(
+      "getContract", "getContractAggregates", "getContractDynamicSql", "getContractDynamicSqlV2",
+      "getContractDynamicSqlV3", "getContractDynamicSqlV4", "contract");
+  private static final List<String> LIST_OPERATIONS = List.of(
+      "searchContracts", "explainContractQuery", "contractFetchStats");
+  private static final List<String> FULL_SCAN_OPERATIONS = List.of("getAllContracts");
+  private static final ParameterizedTypeReference<Map<String, Object>> RESULT_TYPE = new ParameterizedTypeReference<>() {
+  };
+  private static final ParameterizedTypeReference<List<Map<String, Object>>> BATCH_RESULT_TYPE =
+      new ParameterizedTypeReference<>() {
+      };
+
+  private final TrainingProperties properties;
+  private final ConfigurableApplicationContext context;
+  private final Environment environment;
+  private final RestClient.Builder restClientBuilder;
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    // AOT ile @ConditionalOnProperty build sırasında sabitlenir, eğitim modu çalışma anında açılabilsin diye burada bakılıyor
+    if (!properties.enabled()) {
+      return;
+    }
+
+    String document = new ClassPathResource(OPERATIONS).getContentAsString(StandardCharsets.UTF_8);
+    RestClient client = restClientBuilder
+        .baseUrl("http://localhost:" + environment.getProperty("local.server.port") + "/graphql")
+        .build();
+
+    int operations = 0;
+    int failures = 0;
+    long started = System.nanoTime();
+    for (int iteration = 0; iteration < properties.iterations(); iteration++) {
+      List<String> contractIds = contractIds(client, document);
+      for (String contractId : contractIds) {
+        for (String operation : CONTRACT_OPERATIONS) {
+          failures += failed(operation, send(client, request(document, operation, Map.of("contractId", contractId))));
+          operations++;
+        }
+      }
+      for (String operation : properties.fullScans() ? concat(LIST_OPERATIONS, FULL_SCAN_OPERATIONS) : LIST_OPERATIONS) {
+        failures += failed(operation, send(client, request(document, operation, Map.of())));
+        operations++;
+      }
+
+      // Gateway'in sayfa başına gönderdiği dizi: GraphQlBatchHandler ve ContractBatchPlanner yolu
+      List<Map<String, Object>> batch = contractIds.stream()
+          .map(contractId -> request(document, "getContract", Map.of("contractId", contractId)))
+          .toList();
+      if (!batch.isEmpty()) {
+        List<Map<String, Object>> results = client.post().body(batch).retrieve().body(BATCH_RESULT_TYPE);
+        for (Map<String, Object> result : results) {
+          failures += failed("getContract (batch)", result);
+          operations++;
+        }
+      }
+    }
+
+    log.info("Training run finished: {} operations, {} failed, in {} ms",
+        operations, failures, (System.nanoTime() - started) / 1_000_000);
+    int exitCode = failures == 0 ? 0 : 1;
+    System.exit(SpringApplication.exit(context, () -> exitCode));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> contractIds(RestClient client, String document) {
+    Map<String, Object> result = send(client, request(document, "contractIds", Map.of("first", properties.contracts())));
+    if (failed("contractIds", result) > 0) {
+      return List.of();
+    }
+    List<Map<String, Object>> summaries =
+        (List<Map<String, Object>>) ((Map<String, Object>) result.get("data")).get("contractSummaries");
+    if (summaries.isEmpty()) {
+      log.warn("Training run found no finalized contracts, only list operations are sent");
+    }
+    return summaries.stream()
+        .map(summary -> (String) summary.get("contractId"))
+        .toList();
+  }
+
+  private List<String> concat(List<String> first, List<String> second) {
+    return Stream.concat(first.stream(), second.stream()).toList();
+  }
+
+  private Map<String, Object> request(String document, String operation, Map<String, Object> variables) {
+    return Map.of("query", document, "operationName", operation, "variables", variables);
+  }
+
+  private Map<String, Object> send(RestClient client, Map<String, Object> request) {
+    return client.post().body(request).retrieve().body(RESULT_TYPE);
+  }
+
+  private int failed(String operation, Map<String, Object> result) {
+    if (result == null || result.get("errors") != null) {
+      log.warn("Training operation {} failed: {}", operation, result != null ? result.get("errors") : "no response");
+      return 1;
+    }
+    return 0;
+  }
+}
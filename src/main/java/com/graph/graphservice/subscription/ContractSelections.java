@@ -0,0 +1,177 @@
+package com.graph.graphservice.subscription;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.dto.LayerResponse;
+import com.graph.graphservice.dto.ReinstatementResponse;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Which part of a contract selection a change of one table affects, and how a partial re-fetch is merged
+ * into the tree the subscribers already have.
+ */
+@UtilityClass
+class ContractSelections {
+  private static final String LAYERS = "layers";
+  private static final String REINSTATEMENTS = "reinstatements";
+  private static final String REINSTATEMENT_TABLE = "reinstatement";
+  private static final String LAYER_TABLE = "layer";
+
+  // Tablo -> değerini değiştirebileceği Contract alanları; formula alanları da çocuk tablolardan hesaplanıyor
+  private static final Map<String, Set<String>> TABLE_FIELDS = Map.of(
+      "contract", Set.of("id", "contractName", "contractNo", "renewalNo", "endorsementNo", "contractStatus", "version"),
+      "contract_detail", Set.of("contractDetail"),
+      "contract_branch", Set.of("coverages", "totalPremium"),
+      LAYER_TABLE, Set.of(LAYERS, "layerCount", "totalLossLimit", "totalDeductible"),
+      REINSTATEMENT_TABLE, Set.of(LAYERS, "reinstatementCount"));
+
+  private static final RecordComponent[] COMPONENTS = ContractResponse.class.getRecordComponents();
+  private static final MethodHandle CONSTRUCTOR = canonicalConstructor();
+
+  FieldNode union(FieldNode current, FieldNode selection) {
+    if (current == null) {
+      return normalize(selection);
+    }
+    Map<String, FieldNode> children = new LinkedHashMap<>();
+    for (FieldNode child : children(current)) {
+      children.put(child.getName(), child);
+    }
+    for (FieldNode child : children(selection)) {
+      children.merge(child.getName(), normalize(child), ContractSelections::union);
+    }
+    return new FieldNode(current.getName(), null, new ArrayList<>(children.values()));
+  }
+
+  boolean covers(FieldNode current, FieldNode selection) {
+    if (current == null) {
+      return false;
+    }
+    Map<String, FieldNode> children = children(current).stream()
+        .collect(Collectors.toMap(FieldNode::getName, Function.identity()));
+    return children(selection).stream()
+        .allMatch(child -> children.containsKey(child.getName()) && covers(children.get(child.getName()), child));
+  }
+
+  Set<String> fieldNames(FieldNode selection) {
+    return children(selection).stream().map(FieldNode::getName).collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * @return the part of the selection to re-fetch after changes of these tables, null when none of it is
+   * affected
+   */
+  FieldNode affected(FieldNode selection, Set<String> tables) {
+    if (!TABLE_FIELDS.keySet().containsAll(tables)) {
+      return selection;
+    }
+    Set<String> fields = tables.stream()
+        .flatMap(table -> TABLE_FIELDS.get(table).stream())
+        .collect(Collectors.toSet());
+    List<FieldNode> children = new ArrayList<>();
+    for (FieldNode child : children(selection)) {
+      if (!fields.contains(child.getName())) {
+        continue;
+      }
+      if (LAYERS.equals(child.getName()) && isReinstatementsOnly(tables)) {
+        // Sadece reinstatement'lar değişti: layer'lar id ile eşleştirilip reinstatement listeleri değiştirilir
+        children(child).stream()
+            .filter(grandChild -> REINSTATEMENTS.equals(grandChild.getName()))
+            .findFirst()
+            .ifPresent(reinstatements -> children.add(new FieldNode(LAYERS, null, List.of(reinstatements))));
+        continue;
+      }
+      children.add(child);
+    }
+    return children.isEmpty() ? null : new FieldNode(selection.getName(), null, children);
+  }
+
+  boolean isReinstatementsOnly(Set<String> tables) {
+    return tables.contains(REINSTATEMENT_TABLE) && !tables.contains(LAYER_TABLE);
+  }
+
+  /**
+   * The tree with the fields of the re-fetched part replaced; the rest stays as it was.
+   */
+  ContractResponse merge(ContractResponse current, ContractResponse fetched, FieldNode part, boolean reinstatementsOnly) {
+    Set<String> fields = fieldNames(part);
+    Object[] values = new Object[COMPONENTS.length];
+    for (int i = 0; i < COMPONENTS.length; i++) {
+      String name = COMPONENTS[i].getName();
+      values[i] = value(fields.contains(name) ? fetched : current, COMPONENTS[i]);
+      if (LAYERS.equals(name) && reinstatementsOnly && fields.contains(name)) {
+        values[i] = mergeReinstatements(current.layers(), fetched.layers());
+      }
+    }
+    try {
+      return (ContractResponse) CONSTRUCTOR.invokeWithArguments(values);
+    } catch (Throwable e) {
+      throw new IllegalStateException("Could not rebuild ContractResponse", e);
+    }
+  }
+
+  Set<String> changedFields(ContractResponse previous, ContractResponse next, Set<String> fields) {
+    Set<String> changed = new LinkedHashSet<>();
+    for (RecordComponent component : COMPONENTS) {
+      if (fields.contains(component.getName()) && !Objects.equals(value(previous, component), value(next, component))) {
+        changed.add(component.getName());
+      }
+    }
+    return changed;
+  }
+
+  private List<LayerResponse> mergeReinstatements(List<LayerResponse> current, List<LayerResponse> fetched) {
+    if (current == null || fetched == null) {
+      return current;
+    }
+    Map<UUID, List<ReinstatementResponse>> reinstatements = new LinkedHashMap<>();
+    fetched.forEach(layer -> reinstatements.put(layer.id(), layer.reinstatements()));
+    return current.stream()
+        .map(layer -> reinstatements.containsKey(layer.id())
+            ? layer.toBuilder().reinstatements(reinstatements.get(layer.id())).build()
+            : layer)
+        .toList();
+  }
+
+  // Alias'lar fetch'i etkilemez; birleşik seçimde alan adı başına tek düğüm kalır
+  private FieldNode normalize(FieldNode selection) {
+    FieldNode normalized = new FieldNode(selection.getName(), null, new ArrayList<>());
+    return union(normalized, selection);
+  }
+
+  private List<FieldNode> children(FieldNode node) {
+    return node.getChildren() != null ? node.getChildren() : List.of();
+  }
+
+  private Object value(ContractResponse contract, RecordComponent component) {
+    try {
+      return component.getAccessor().invoke(contract);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not read " + component.getName(), e);
+    }
+  }
+
+  private MethodHandle canonicalConstructor() {
+    try {
+      Class<?>[] types = Arrays.stream(COMPONENTS).map(RecordComponent::getType).toArray(Class<?>[]::new);
+      return MethodHandles.lookup().unreflectConstructor(ContractResponse.class.getDeclaredConstructor(types));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.graph.graphservice.subscription;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param coalesce   changes of a contract arriving within this window are re-fetched together; one write
+ *                   notifies once per table it touched
+ * @param retryDelay wait before retrying a re-fetch that failed
+ */
+@ConfigurationProperties(prefix = "graph.subscription")
+public record ContractSubscriptionProperties(
+    @DefaultValue("50ms") Duration coalesce,
+    @DefaultValue("1s") Duration retryDelay
+) {
+}
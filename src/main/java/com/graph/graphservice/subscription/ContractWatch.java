@@ -0,0 +1,181 @@
+package com.graph.graphservice.subscription;
+
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.ContractUpdate;
+import com.graph.graphservice.dto.FieldNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The subscribers of one contract and the tree they share. The tree is loaded with the union of their
+ * selections; after a change only the affected part is re-fetched, once for all of them, and each
+ * subscriber whose selection saw a difference gets the new tree, which graphql-java projects on its
+ * selection. All state changes happen under the watch's lock, fetches included, so events reach every
+ * subscriber in order.
+ */
+@Slf4j
+class ContractWatch {
+  private final UUID contractId;
+  private final ContractWatchRegistry registry;
+  private final List<Watcher> watchers = new ArrayList<>();
+  private final Set<String> pendingTables = new HashSet<>();
+
+  private FieldNode union;
+  private ContractResponse snapshot;
+  private boolean loaded;
+  private boolean closed;
+  private boolean resync;
+  private boolean flushScheduled;
+
+  ContractWatch(UUID contractId, ContractWatchRegistry registry) {
+    this.contractId = contractId;
+    this.registry = registry;
+  }
+
+  /**
+   * Adds the watcher and sends it the current tree.
+   *
+   * @return false when the watch was closed meanwhile and a new one must be used
+   */
+  synchronized boolean join(Watcher watcher) {
+    if (closed) {
+      return false;
+    }
+    watchers.add(watcher);
+    registry.joined();
+    try {
+      if (!loaded || !ContractSelections.covers(union, watcher.selection())) {
+        union = ContractSelections.union(union, watcher.selection());
+        replace(registry.fetch(contractId, union, ContractWatchRegistry.FetchReason.SUBSCRIBE), watcher);
+      }
+    } catch (RuntimeException e) {
+      leave(watcher);
+      throw e;
+    }
+
+    Long version = snapshot != null ? snapshot.version() : null;
+    registry.emit(watcher, new ContractUpdate(version, List.copyOf(watcher.fields()), snapshot));
+    if (snapshot == null) {
+      watcher.sink().tryEmitComplete();
+      leave(watcher);
+    }
+    return true;
+  }
+
+  synchronized void leave(Watcher watcher) {
+    if (!watchers.remove(watcher)) {
+      return;
+    }
+    registry.left();
+    if (watchers.isEmpty()) {
+      closed = true;
+      registry.remove(contractId, this);
+      return;
+    }
+    // Kalanların seçimine daralır, ayrılanın alanları artık yeniden yüklenmez
+    FieldNode remaining = null;
+    for (Watcher other : watchers) {
+      remaining = ContractSelections.union(remaining, other.selection());
+    }
+    union = remaining;
+  }
+
+  synchronized void changed(String table) {
+    pendingTables.add(table);
+    scheduleFlush();
+  }
+
+  synchronized void resync() {
+    resync = true;
+    scheduleFlush();
+  }
+
+  private void scheduleFlush() {
+    if (!flushScheduled && !closed) {
+      flushScheduled = true;
+      registry.schedule(this::flush, registry.coalesce());
+    }
+  }
+
+  synchronized void flush() {
+    flushScheduled = false;
+    if (closed) {
+      return;
+    }
+    Set<String> tables = Set.copyOf(pendingTables);
+    boolean full = resync;
+    pendingTables.clear();
+    resync = false;
+
+    FieldNode part = full ? union : ContractSelections.affected(union, tables);
+    if (part == null) {
+      return;
+    }
+    try {
+      ContractResponse fetched = registry.fetch(contractId, part,
+          full ? ContractWatchRegistry.FetchReason.RESYNC : ContractWatchRegistry.FetchReason.CHANGE);
+      replace(fetched == null || full || snapshot == null
+          ? fetched
+          : ContractSelections.merge(snapshot, fetched, part, ContractSelections.isReinstatementsOnly(tables)), null);
+    } catch (RuntimeException e) {
+      log.warn("Could not re-fetch contract {} for its subscribers, retrying: {}", contractId, e.getMessage());
+      pendingTables.addAll(tables);
+      resync |= full;
+      flushScheduled = true;
+      registry.schedule(this::flush, registry.retryDelay());
+    }
+  }
+
+  private void replace(ContractResponse next, Watcher joining) {
+    ContractResponse previous = snapshot;
+    boolean wasLoaded = loaded;
+    snapshot = next;
+    loaded = true;
+    if (!wasLoaded) {
+      return;
+    }
+
+    if (next == null) {
+      // Contract silindi: herkes son bir olay alır ve abonelik biter
+      for (Watcher watcher : List.copyOf(watchers)) {
+        if (watcher != joining) {
+          registry.emit(watcher, new ContractUpdate(null, List.copyOf(watcher.fields()), null));
+          watcher.sink().tryEmitComplete();
+          leave(watcher);
+        }
+      }
+      return;
+    }
+
+    Set<String> changed = ContractSelections.changedFields(previous, next, ContractSelections.fieldNames(union));
+    if (changed.isEmpty()) {
+      return;
+    }
+    for (Watcher watcher : watchers) {
+      if (watcher == joining) {
+        continue;
+      }
+      Set<String> own = new LinkedHashSet<>(watcher.fields());
+      own.retainAll(changed);
+      if (!own.isEmpty()) {
+        registry.emit(watcher, new ContractUpdate(next.version(), List.copyOf(own), next));
+      }
+    }
+  }
+
+  record Watcher(FieldNode selection, Set<String> fields, Sinks.Many<ContractUpdate> sink) {
+
+    Watcher(FieldNode selection) {
+      this(selection, ContractSelections.fieldNames(selection), Sinks.many().unicast().onBackpressureBuffer());
+    }
+  }
+}
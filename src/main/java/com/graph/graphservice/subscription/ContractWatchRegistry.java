@@ -0,0 +1,147 @@
+package com.graph.graphservice.subscription;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.graph.graphservice.change.ContractChange;
+import com.graph.graphservice.change.ContractChangeConsumer;
+import com.graph.graphservice.dto.ContractResponse;
+import com.graph.graphservice.dto.ContractUpdate;
+import com.graph.graphservice.dto.FieldNode;
+import com.graph.graphservice.service.ContractQueryService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Backs the {@code contractUpdated} subscription: one {@link ContractWatch} per watched contract, fed by the
+ * {@code contract_changed} notifications. Trees are read from the primary (no replica route is bound
+ * here), since a replica may not have replayed the change yet when its notification arrives.
+ */
+@Slf4j
+@Component
+public class ContractWatchRegistry implements ContractChangeConsumer {
+  private final ContractQueryService contractQueryService;
+  private final ContractSubscriptionProperties properties;
+  private final Map<UUID, ContractWatch> watches = new ConcurrentHashMap<>();
+  private final AtomicInteger watchers = new AtomicInteger();
+  private final Map<FetchReason, Counter> fetches = new EnumMap<>(FetchReason.class);
+  private final Counter events;
+
+  enum FetchReason {
+    SUBSCRIBE, CHANGE, RESYNC
+  }
+
+  public ContractWatchRegistry(ContractQueryService contractQueryService,
+                               ContractSubscriptionProperties properties,
+                               MeterRegistry meterRegistry) {
+    this.contractQueryService = contractQueryService;
+    this.properties = properties;
+    Gauge.builder("graph.subscription.contracts", watches, Map::size)
+        .description("Contracts with at least one contractUpdated subscriber")
+        .register(meterRegistry);
+    Gauge.builder("graph.subscription.watchers", watchers, AtomicInteger::get)
+        .description("Open contractUpdated subscriptions")
+        .register(meterRegistry);
+    for (FetchReason reason : FetchReason.values()) {
+      fetches.put(reason, Counter.builder("graph.subscription.fetches")
+          .description("Contract trees (or parts of them) loaded for subscribers")
+          .tag("reason", reason.name().toLowerCase())
+          .register(meterRegistry));
+    }
+    this.events = Counter.builder("graph.subscription.events")
+        .description("contractUpdated events sent")
+        .register(meterRegistry);
+  }
+
+  public Flux<ContractUpdate> watch(UUID contractId, FieldNode selection) {
+    return Flux.defer(() -> {
+          ContractWatch.Watcher watcher = new ContractWatch.Watcher(selection);
+          ContractWatch watch;
+          do {
+            watch = watches.computeIfAbsent(contractId, id -> new ContractWatch(id, this));
+          } while (!watch.join(watcher));
+
+          ContractWatch joined = watch;
+          // Yavaş bir istemci ara durumları kaçırır, her olay tüm ağacı taşıdığı için son durum yeter
+          return watcher.sink().asFlux()
+              .onBackpressureLatest()
+              .doFinally(signal -> Schedulers.boundedElastic().schedule(() -> joined.leave(watcher)));
+        })
+        // İlk yükleme JDBC ile yapılıyor, WebSocket thread'ini tutmasın
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  @Override
+  public void onChange(ContractChange change) {
+    ContractWatch watch = watches.get(change.contractId());
+    if (watch != null) {
+      watch.changed(change.table());
+    }
+  }
+
+  @Override
+  public void onConnected() {
+    // Bağlantı koptuğu sırada kaçan değişiklikler için izlenen her contract yeniden yüklenir
+    watches.values().forEach(ContractWatch::resync);
+  }
+
+  @Override
+  public void onDisconnected() {
+    // Abonelere bir şey gönderilmez; bağlantı dönünce onConnected farkları yollar
+  }
+
+  ContractResponse fetch(UUID contractId, FieldNode selection, FetchReason reason) {
+    fetches.get(reason).increment();
+    return contractQueryService.lookupContract(contractId, selection).orElse(null);
+  }
+
+  void emit(ContractWatch.Watcher watcher, ContractUpdate update) {
+    if (watcher.sink().tryEmitNext(update).isSuccess()) {
+      events.increment();
+    }
+  }
+
+  void schedule(Runnable task, Duration delay) {
+    Schedulers.boundedElastic().schedule(() -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.warn("Contract subscription task failed", e);
+      }
+    }, delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  Duration coalesce() {
+    return properties.coalesce();
+  }
+
+  Duration retryDelay() {
+    return properties.retryDelay();
+  }
+
+  void joined() {
+    watchers.incrementAndGet();
+  }
+
+  void left() {
+    watchers.decrementAndGet();
+  }
+
+  void remove(UUID contractId, ContractWatch watch) {
+    watches.remove(contractId, watch);
+  }
+}
@@ -1,8 +1,15 @@
 package com.graph.graphservice.utils;
 
+import graphql.language.Field;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.parser.Parser;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.SelectedField;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,13 +32,54 @@ public class FieldNodeUtil {
   }
 
   public FieldNode buildFieldNodeRecursive(SelectedField field) {
-    List<FieldNode> children = field.getSelectionSet().getFields().stream()
+    // getFields() tüm alt seviyeleri döner, ağaç için sadece doğrudan çocuklar alınmalı
+    List<FieldNode> children = field.getSelectionSet().getImmediateFields().stream()
         .map(FieldNodeUtil::buildFieldNodeRecursive)
         .collect(Collectors.toList());
 
     return FieldNode.builder()
         .name(field.getName())
+        .alias(field.getAlias())
         .children(children)
         .build();
   }
+
+  /**
+   * Parses a bare selection such as {@code { contractNo layers { layerOrder } }} without a schema.
+   * Inline fragments are flattened, named fragment spreads are not supported.
+   */
+  public FieldNode parseSelection(String selection, String rootName) {
+    String trimmed = selection.trim();
+    if (!trimmed.startsWith("{")) {
+      trimmed = "{ " + trimmed + " }";
+    }
+
+    OperationDefinition operation = (OperationDefinition) Parser.parse(trimmed).getDefinitions().get(0);
+    return FieldNode.builder()
+        .name(rootName)
+        .children(parseSelectionSet(operation.getSelectionSet()))
+        .build();
+  }
+
+  private List<FieldNode> parseSelectionSet(SelectionSet selectionSet) {
+    List<FieldNode> children = new ArrayList<>();
+    if (selectionSet == null) {
+      return children;
+    }
+
+    for (Selection<?> selection : selectionSet.getSelections()) {
+      if (selection instanceof Field field) {
+        children.add(FieldNode.builder()
+            .name(field.getName())
+            .alias(field.getAlias())
+            .children(parseSelectionSet(field.getSelectionSet()))
+            .build());
+      } else if (selection instanceof InlineFragment fragment) {
+        children.addAll(parseSelectionSet(fragment.getSelectionSet()));
+      } else {
+        throw new IllegalArgumentException("Unsupported selection: " + selection.getClass().getSimpleName());
+      }
+    }
+    return children;
+  }
 }
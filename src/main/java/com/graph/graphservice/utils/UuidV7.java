@@ -0,0 +1,55 @@
+package com.graph.graphservice.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48 bit Unix epoch milliseconds, then a 12 bit counter that keeps ids
+ * generated within the same millisecond increasing, then 62 random bits. Consecutive inserts land on
+ * the right-most B-tree pages instead of random ones.
+ */
+@UtilityClass
+public class UuidV7 {
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+  /**
+   * {@code (epochMillis << 12) | counter} of the last generated id. When the counter overflows it
+   * carries into the millisecond part, which keeps ids monotonic at the cost of running slightly ahead
+   * of the clock.
+   */
+  private static final AtomicLong LAST_TIME_AND_COUNTER = new AtomicLong();
+
+  public UUID next() {
+    long timeAndCounter = nextTimeAndCounter();
+    return of(timeAndCounter >>> COUNTER_BITS, timeAndCounter & COUNTER_MASK,
+        ThreadLocalRandom.current().nextLong());
+  }
+
+  public UUID of(long epochMillis, long randA, long randB) {
+    long mostSigBits = ((epochMillis & 0xFFFF_FFFF_FFFFL) << 16) | 0x7000L | (randA & COUNTER_MASK);
+    long leastSigBits = (randB & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  public long epochMillis(UUID uuid) {
+    if (uuid.version() != 7) {
+      throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+    }
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+
+  private long nextTimeAndCounter() {
+    while (true) {
+      long last = LAST_TIME_AND_COUNTER.get();
+      long now = System.currentTimeMillis() << COUNTER_BITS;
+      long next = now > last ? now : last + 1;
+      if (LAST_TIME_AND_COUNTER.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+}
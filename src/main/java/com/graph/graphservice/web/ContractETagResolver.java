@@ -0,0 +1,136 @@
+package com.graph.graphservice.web;
+
+import graphql.language.Field;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.graph.graphservice.dto.ContractVersion;
+import com.graph.graphservice.repository.ContractRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes the ETag of a query that only reads single contracts by id. The tag is built from the
+ * aggregate versions, read with one primary key lookup, and a SHA-256 of the request (query, operation
+ * name and the variables serialized with sorted keys), so an unchanged contract can be answered without
+ * fetching its tree. The lookup always reads the primary; {@link GraphQlGetHandler} repeats it after
+ * execution and only tags the body when both lookups agree.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContractETagResolver {
+  // Sorgu -> contract id argümanı
+  private static final Map<String, String> CONTRACT_QUERIES = Map.of(
+      "getContract", "contractId",
+      "getContractDynamicSql", "contractId",
+      "getContractDynamicSqlV2", "contractId",
+      "getContractDynamicSqlV3", "contractId",
+      "getContractDynamicSqlV4", "contractId",
+      "contract", "id");
+  private static final long MISSING_VERSION = -1;
+  private static final byte SEPARATOR = 0;
+
+  private final ContractRepository contractRepository;
+  private final ObjectMapper objectMapper;
+
+  // Koşullu okunamayan sorgular için null döner
+  public String resolve(OperationDefinition operation, String query, Map<String, Object> variables) {
+    if (operation.getOperation() != OperationDefinition.Operation.QUERY) {
+      return null;
+    }
+
+    List<UUID> contractIds = new ArrayList<>();
+    for (Selection<?> selection : operation.getSelectionSet().getSelections()) {
+      if (!(selection instanceof Field field) || !CONTRACT_QUERIES.containsKey(field.getName())) {
+        return null;
+      }
+
+      UUID contractId = contractId(field, CONTRACT_QUERIES.get(field.getName()), variables);
+      if (contractId == null) {
+        return null;
+      }
+      contractIds.add(contractId);
+    }
+
+    if (contractIds.isEmpty()) {
+      return null;
+    }
+
+    Map<UUID, Long> versions = contractRepository.findVersions(contractIds).stream()
+        .collect(Collectors.toMap(ContractVersion::id, ContractVersion::version));
+
+    String versionPart = contractIds.stream()
+        .map(id -> String.valueOf(versions.getOrDefault(id, MISSING_VERSION)))
+        .collect(Collectors.joining("."));
+    return "W/\"" + versionPart + "-" + requestHash(query, operation.getName(), variables) + "\"";
+  }
+
+  // Farklı iki istek aynı versiyonlarla aynı ETag'i alıp yanlış 304 dönmesin diye tam SHA-256
+  private String requestHash(String query, String operationName, Map<String, Object> variables) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    digest.update(query.getBytes(StandardCharsets.UTF_8));
+    digest.update(SEPARATOR);
+    if (operationName != null) {
+      digest.update(operationName.getBytes(StandardCharsets.UTF_8));
+    }
+    digest.update(SEPARATOR);
+    try {
+      digest.update(objectMapper.writer()
+          .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+          .writeValueAsBytes(variables != null ? variables : Map.of()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize variables", e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private UUID contractId(Field field, String argumentName, Map<String, Object> variables) {
+    return field.getArguments().stream()
+        .filter(argument -> argumentName.equals(argument.getName()))
+        .findFirst()
+        .map(argument -> argumentValue(argument.getValue(), variables))
+        .map(this::parseUuid)
+        .orElse(null);
+  }
+
+  private Object argumentValue(Value<?> value, Map<String, Object> variables) {
+    if (value instanceof StringValue stringValue) {
+      return stringValue.getValue();
+    }
+    if (value instanceof VariableReference reference && variables != null) {
+      return variables.get(reference.getName());
+    }
+    return null;
+  }
+
+  private UUID parseUuid(Object value) {
+    try {
+      return value instanceof String string ? UUID.fromString(string) : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
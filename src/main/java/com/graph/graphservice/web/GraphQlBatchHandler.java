@@ -0,0 +1,111 @@
+package com.graph.graphservice.web;
+
+import graphql.GraphqlErrorBuilder;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.servlet.ServletException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.graph.graphservice.batch.BatchProperties;
+import com.graph.graphservice.batch.ContractBatchPlanner;
+import com.graph.graphservice.batch.ContractIdBatch;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.webmvc.GraphQlHttpHandler;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * GraphQL over HTTP POST with a JSON array of operations, as sent by the gateway for a page. The
+ * operations run concurrently, at most {@code graph.batch.parallelism} at a time, and {@code getContract}
+ * operations selecting the same shape share one multi-id query (see {@link ContractBatchPlanner}). The
+ * results come back as an array in request order. A single operation (JSON object) is passed on to the
+ * regular handler.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphQlBatchHandler {
+  private static final TypeReference<List<Map<String, Object>>> BATCH_TYPE = new TypeReference<>() {
+  };
+
+  private final GraphQlHttpHandler graphQlHttpHandler;
+  private final WebGraphQlHandler webGraphQlHandler;
+  private final ContractBatchPlanner contractBatchPlanner;
+  private final BatchProperties properties;
+  private final ObjectMapper objectMapper;
+
+  public ServerResponse handle(ServerRequest request) throws ServletException, IOException {
+    byte[] body = request.body(byte[].class);
+    if (!isArray(body)) {
+      return graphQlHttpHandler.handleRequest(ServerRequest.from(request).body(body).build());
+    }
+
+    List<Map<String, Object>> operations;
+    try {
+      operations = objectMapper.readValue(body, BATCH_TYPE);
+    } catch (IOException e) {
+      return ServerResponse.badRequest().build();
+    }
+    if (operations.isEmpty() || operations.size() > properties.maxOperations()
+        || operations.stream().anyMatch(Objects::isNull)) {
+      return ServerResponse.badRequest().build();
+    }
+
+    List<ContractIdBatch> batches = contractBatchPlanner.plan(operations);
+    String requestId = request.servletRequest().getRequestId();
+    // Sıralı flatMap: en fazla parallelism kadar operasyon aynı anda çalışır, sonuçlar istek sırasıyla döner
+    return ServerResponse.async(Flux.range(0, operations.size())
+        .flatMapSequential(index -> execute(request, operations.get(index), batches.get(index), requestId + "-" + index)
+            .subscribeOn(Schedulers.boundedElastic()), properties.parallelism())
+        .collectList()
+        .map(results -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(results))
+        .toFuture());
+  }
+
+  private Mono<Map<String, Object>> execute(ServerRequest request, Map<String, Object> operation,
+                                            ContractIdBatch batch, String id) {
+    WebGraphQlRequest graphQlRequest;
+    try {
+      graphQlRequest = WebGraphQlRequests.create(request, operation, id);
+    } catch (ServerWebInputException e) {
+      // Geçersiz bir operasyon sadece kendi sonucunu bozar
+      return Mono.just(Map.of("errors", List.of(GraphqlErrorBuilder.newError()
+          .message(e.getReason() != null ? e.getReason() : "Invalid operation")
+          .build()
+          .toSpecification())));
+    }
+
+    if (batch != null) {
+      graphQlRequest.configureExecutionInput((input, builder) -> {
+        input.getGraphQLContext().put(ContractIdBatch.class, batch);
+        return input;
+      });
+    }
+    return webGraphQlHandler.handleRequest(graphQlRequest).map(WebGraphQlResponse::toMap);
+  }
+
+  private boolean isArray(byte[] body) {
+    for (byte b : body) {
+      if (!Character.isWhitespace(b)) {
+        return b == '[';
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,138 @@
+package com.graph.graphservice.web;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.graph.graphservice.routing.ReplicaRoute;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * GraphQL over HTTP GET ({@code ?query=&operationName=&variables=}), queries only. Single-contract
+ * queries are answered with an ETag, and a matching {@code If-None-Match} gets {@code 304 Not
+ * Modified} after a version lookup, without executing the query. Such queries read the primary, where
+ * the versions are looked up, and the versions are looked up again after execution: the tag is only sent
+ * when no write committed in between and the response has no errors, so it always names the body.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphQlGetHandler {
+  private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {
+  };
+
+  private final WebGraphQlHandler webGraphQlHandler;
+  private final ContractETagResolver contractETagResolver;
+  private final ObjectMapper objectMapper;
+
+  public ServerResponse handle(ServerRequest request) {
+    Optional<String> query = request.param("query");
+    if (query.isEmpty()) {
+      return ServerResponse.badRequest().build();
+    }
+    String operationName = request.param("operationName").orElse(null);
+
+    Map<String, Object> variables;
+    try {
+      variables = parseVariables(request.param("variables").orElse(null));
+    } catch (JsonProcessingException e) {
+      return ServerResponse.badRequest().build();
+    }
+
+    String etag = null;
+    Optional<OperationDefinition> operation = findOperation(query.get(), operationName);
+    if (operation.isPresent()) {
+      // GET güvenli (safe) olmalı, mutation'lar sadece POST ile
+      if (operation.get().getOperation() != OperationDefinition.Operation.QUERY) {
+        return ServerResponse.status(HttpStatus.METHOD_NOT_ALLOWED).header(HttpHeaders.ALLOW, "POST").build();
+      }
+
+      etag = contractETagResolver.resolve(operation.get(), query.get(), variables);
+      if (etag != null && matches(request.headers().header(HttpHeaders.IF_NONE_MATCH), etag)) {
+        return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+      }
+    }
+
+    Map<String, Object> body = new HashMap<>();
+    body.put("query", query.get());
+    body.put("operationName", operationName);
+    body.put("variables", variables);
+
+    WebGraphQlRequest graphQlRequest = WebGraphQlRequests.create(request, body);
+    if (etag != null) {
+      // Replika geride olabilir, eski gövde yeni versiyonun etiketini alırdı
+      graphQlRequest.configureExecutionInput((input, builder) -> {
+        input.getGraphQLContext().put(ReplicaRoute.PRIMARY_ONLY, true);
+        return input;
+      });
+    }
+
+    String expectedETag = etag;
+    return ServerResponse.async(webGraphQlHandler.handleRequest(graphQlRequest)
+        .map(response -> {
+          ServerResponse.BodyBuilder builder = ServerResponse.ok()
+              .contentType(MediaType.APPLICATION_GRAPHQL_RESPONSE)
+              .headers(headers -> headers.putAll(response.getResponseHeaders()));
+          // Hatalı yanıt (OVERLOADED, DEADLINE_EXCEEDED, ...) etiketlenirse sonraki istekler 304 ile onu tutar
+          if (expectedETag != null && response.isValid() && response.getErrors().isEmpty()
+              && expectedETag.equals(contractETagResolver.resolve(operation.get(), query.get(), variables))) {
+            builder.eTag(expectedETag).cacheControl(CacheControl.noCache());
+          }
+          return builder.body(response.toMap());
+        })
+        .toFuture());
+  }
+
+  private Optional<OperationDefinition> findOperation(String query, String operationName) {
+    Document document;
+    try {
+      document = Parser.parse(query);
+    } catch (InvalidSyntaxException e) {
+      // Hata GraphQL response olarak execution'dan dönsün
+      return Optional.empty();
+    }
+
+    List<OperationDefinition> operations = document.getDefinitions().stream()
+        .filter(OperationDefinition.class::isInstance)
+        .map(OperationDefinition.class::cast)
+        .toList();
+    if (operationName == null) {
+      return operations.size() == 1 ? Optional.of(operations.get(0)) : Optional.empty();
+    }
+    return operations.stream()
+        .filter(operation -> operationName.equals(operation.getName()))
+        .findFirst();
+  }
+
+  private Map<String, Object> parseVariables(String variables) throws JsonProcessingException {
+    return variables == null || variables.isBlank() ? Map.of() : objectMapper.readValue(variables, VARIABLES_TYPE);
+  }
+
+  private boolean matches(List<String> ifNoneMatch, String etag) {
+    String opaque = etag.substring(2);
+    return ifNoneMatch.stream()
+        .flatMap(value -> List.of(value.split(",")).stream())
+        .map(String::trim)
+        .anyMatch(candidate -> "*".equals(candidate) || opaque.equals(candidate.startsWith("W/")
+            ? candidate.substring(2) : candidate));
+  }
+}
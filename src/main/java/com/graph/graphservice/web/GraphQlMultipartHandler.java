@@ -0,0 +1,122 @@
+package com.graph.graphservice.web;
+
+import graphql.ExecutionResult;
+import graphql.ExperimentalApi;
+import graphql.incremental.DelayedIncrementalPartialResult;
+import graphql.incremental.IncrementalExecutionResult;
+
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.graph.graphservice.deadline.QueryDeadline;
+
+import lombok.RequiredArgsConstructor;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * GraphQL over HTTP POST for clients that accept {@code multipart/mixed}, the incremental delivery
+ * format of {@code @defer} ({@code deferSpec=20220824}). The initial result is written and flushed as
+ * the first part. Every deferred payload follows as its own part as soon as graphql-java completes it.
+ * Operations without {@code @defer} get the usual single JSON response.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphQlMultipartHandler {
+  private static final MediaType MULTIPART_MIXED = new MediaType(MediaType.MULTIPART_MIXED,
+      Map.of("boundary", "\"-\"", "deferSpec", "20220824"));
+  private static final byte[] PART_HEADER = "\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n"
+      .getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] CLOSE_DELIMITER = "\r\n-----\r\n".getBytes(StandardCharsets.US_ASCII);
+  private static final ParameterizedTypeReference<Map<String, Object>> BODY_TYPE = new ParameterizedTypeReference<>() {
+  };
+
+  private final WebGraphQlHandler webGraphQlHandler;
+  private final ObjectMapper objectMapper;
+
+  public ServerResponse handle(ServerRequest request) throws ServletException, IOException {
+    WebGraphQlRequest graphQlRequest = WebGraphQlRequests.create(request, request.body(BODY_TYPE));
+    graphQlRequest.configureExecutionInput((input, builder) -> {
+      input.getGraphQLContext().put(ExperimentalApi.ENABLE_INCREMENTAL_SUPPORT, true);
+      return input;
+    });
+
+    return ServerResponse.async(webGraphQlHandler.handleRequest(graphQlRequest)
+        .map(response -> {
+          ExecutionResult result = response.getExecutionResult();
+          if (!(result instanceof IncrementalExecutionResult incremental)) {
+            return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_GRAPHQL_RESPONSE)
+                .headers(headers -> headers.putAll(response.getResponseHeaders()))
+                .body(response.toMap());
+          }
+          return ServerResponse.ok()
+              .contentType(MULTIPART_MIXED)
+              .headers(headers -> headers.putAll(response.getResponseHeaders()))
+              .build((servletRequest, servletResponse) -> {
+                writeParts(servletResponse, response, incremental);
+                return null;
+              });
+        })
+        .toFuture());
+  }
+
+  private void writeParts(HttpServletResponse servletResponse, WebGraphQlResponse response,
+                          IncrementalExecutionResult result) throws IOException {
+    OutputStream out = servletResponse.getOutputStream();
+    Publisher<DelayedIncrementalPartialResult> publisher = result.getIncrementalItemPublisher();
+    // Ertelenen çağrılar abonelikte başlar, abonelik ilk parçadan sonra yapılır ki ilk yanıt beklemesin
+    try {
+      writePart(out, response.toMap());
+      servletResponse.flushBuffer();
+    } catch (IOException e) {
+      // Akış hiç başlamazsa sonlanmaz da, permit ve deadline bırakılmaz. İptal edilmiş sorguda
+      // fragment'lar hemen düşer ve akış ilk payload'da biter
+      abandon(response);
+      Flux.from(publisher).subscribe().dispose();
+      throw e;
+    }
+
+    // Stream kapatılınca abonelik iptal edilir, istemci koptuysa kalan ertelenen sorgular da durur
+    try (Stream<DelayedIncrementalPartialResult> parts = Flux.from(publisher).toStream(1)) {
+      for (DelayedIncrementalPartialResult part : (Iterable<DelayedIncrementalPartialResult>) parts::iterator) {
+        writePart(out, part.toSpecification());
+        out.flush();
+      }
+    } catch (IOException e) {
+      abandon(response);
+      throw e;
+    }
+    out.write(CLOSE_DELIMITER);
+    out.flush();
+  }
+
+  private void abandon(WebGraphQlResponse response) {
+    QueryDeadline deadline = response.getExecutionInput().getGraphQLContext().get(QueryDeadline.class);
+    if (deadline != null) {
+      deadline.cancel("request abandoned");
+    }
+  }
+
+  private void writePart(OutputStream out, Map<String, Object> payload) throws IOException {
+    out.write(PART_HEADER);
+    out.write(objectMapper.writeValueAsBytes(payload));
+  }
+}
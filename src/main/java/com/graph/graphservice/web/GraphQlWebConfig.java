@@ -0,0 +1,40 @@
+package com.graph.graphservice.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+@Configuration
+public class GraphQlWebConfig {
+
+  // Boot'un POST route'u GET'e 405 döndüğü için bu route önce değerlendirilmeli
+  @Bean
+  @Order(0)
+  public RouterFunction<ServerResponse> graphQlGetRouterFunction(GraphQlGetHandler graphQlGetHandler,
+                                                                 @Value("${spring.graphql.http.path:/graphql}") String path) {
+    return RouterFunctions.route()
+        .GET(path, RequestPredicates.accept(MediaType.APPLICATION_GRAPHQL_RESPONSE, MediaType.APPLICATION_JSON),
+            graphQlGetHandler::handle)
+        .build();
+  }
+
+  // accept() */* ile de eşleşir; sadece multipart/mixed'i açıkça isteyen istemciler incremental route'a gelir.
+  // Diğer JSON POST'lardan dizi gövdeliler batch olarak çalışır, tek operasyonlar Boot'un handler'ına aktarılır
+  @Bean
+  @Order(0)
+  public RouterFunction<ServerResponse> graphQlPostRouterFunction(GraphQlMultipartHandler graphQlMultipartHandler,
+                                                                  GraphQlBatchHandler graphQlBatchHandler,
+                                                                  @Value("${spring.graphql.http.path:/graphql}") String path) {
+    return RouterFunctions.route()
+        .POST(path, request -> request.headers().accept().stream()
+            .anyMatch(MediaType.MULTIPART_MIXED::equalsTypeAndSubtype), graphQlMultipartHandler::handle)
+        .POST(path, RequestPredicates.contentType(MediaType.APPLICATION_JSON), graphQlBatchHandler::handle)
+        .build();
+  }
+}
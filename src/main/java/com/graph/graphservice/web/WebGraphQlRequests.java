@@ -0,0 +1,41 @@
+package com.graph.graphservice.web;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.Cookie;
+
+import lombok.experimental.UtilityClass;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.http.HttpCookie;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.function.ServerRequest;
+
+@UtilityClass
+class WebGraphQlRequests {
+
+  // Boot'un POST handler'ı dışındaki route'lar (GET, multipart, batch) isteği aynı şekilde kurar
+  WebGraphQlRequest create(ServerRequest request, Map<String, Object> body, String id) {
+    return new WebGraphQlRequest(
+        request.uri(), request.headers().asHttpHeaders(), cookies(request),
+        request.remoteAddress().orElse(null), request.attributes(), body,
+        id, LocaleContextHolder.getLocale());
+  }
+
+  WebGraphQlRequest create(ServerRequest request, Map<String, Object> body) {
+    return create(request, body, request.servletRequest().getRequestId());
+  }
+
+  private MultiValueMap<String, HttpCookie> cookies(ServerRequest request) {
+    MultiValueMap<String, HttpCookie> cookies = new LinkedMultiValueMap<>();
+    for (Map.Entry<String, List<Cookie>> entry : request.cookies().entrySet()) {
+      for (Cookie cookie : entry.getValue()) {
+        cookies.add(entry.getKey(), new HttpCookie(cookie.getName(), cookie.getValue()));
+      }
+    }
+    return cookies;
+  }
+}
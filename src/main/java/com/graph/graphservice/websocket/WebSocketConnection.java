@@ -0,0 +1,110 @@
+package com.graph.graphservice.websocket;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-connection state of the GraphQL WebSocket endpoint. Operations are accepted while fewer than
+ * {@code maxInFlight} are open and executed from a queue, at most {@code parallelism} at a time, so the
+ * socket's receive thread never runs a query itself and one connection cannot occupy every pooled
+ * database connection. A slot is held until the operation has stopped running, not until its result is
+ * delivered, and an operation cancelled while still queued is skipped.
+ */
+class WebSocketConnection {
+  private final int maxInFlight;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong operations = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final Sinks.Many<Mono<Void>> queue = Sinks.many().unicast().onBackpressureBuffer();
+  private final Sinks.Empty<Void> closed = Sinks.empty();
+  private volatile boolean closing;
+
+  WebSocketConnection(WebSocketProperties properties) {
+    this.maxInFlight = properties.maxInFlight();
+    queue.asFlux()
+        .flatMap(operation -> operation, properties.parallelism())
+        .subscribe();
+  }
+
+  boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= maxInFlight) {
+        rejected.incrementAndGet();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        operations.incrementAndGet();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Queues an operation accepted by {@link #tryAcquire()}; the returned Mono completes with its result once
+   * it has run on a worker thread. The slot is released and {@code onFinished} called when the operation
+   * has finished, was skipped or was cancelled by {@link #close()}.
+   */
+  <T> Mono<T> submit(Mono<T> operation, Runnable onFinished) {
+    Sinks.One<T> result = Sinks.one();
+    AtomicBoolean cancelled = new AtomicBoolean();
+    Mono<Void> run = Mono.defer(() -> {
+          // Sonucu bekleyen kalmadıysa (bağlantı kapandı) sıradaki operasyon hiç çalıştırılmaz
+          if (cancelled.get() || closing) {
+            return Mono.<Void>empty();
+          }
+          return operation
+              .subscribeOn(Schedulers.boundedElastic())
+              .doOnNext(result::tryEmitValue)
+              .doOnError(result::tryEmitError)
+              .doOnSuccess(value -> result.tryEmitEmpty())
+              .onErrorComplete()
+              .then()
+              .takeUntilOther(closed.asMono());
+        })
+        .doFinally(signal -> {
+          inFlight.decrementAndGet();
+          onFinished.run();
+        });
+    // Kapanmış bağlantıya gelen operasyon kuyruğa giremez, hata ile tamamlanır
+    Sinks.EmitResult emitted;
+    synchronized (queue) {
+      emitted = queue.tryEmitNext(run);
+    }
+    if (emitted.isFailure()) {
+      inFlight.decrementAndGet();
+      onFinished.run();
+      return Mono.error(new IllegalStateException("Connection is closed"));
+    }
+    // Çalışan operasyon sonucu beklenmese de bitene kadar slotu tutar
+    return result.asMono().doOnCancel(() -> cancelled.set(true));
+  }
+
+  /**
+   * Cancels running operations; the queue is still drained so every queued operation releases its slot.
+   */
+  void close() {
+    closing = true;
+    closed.tryEmitEmpty();
+    synchronized (queue) {
+      queue.tryEmitComplete();
+    }
+  }
+
+  int maxInFlight() {
+    return maxInFlight;
+  }
+
+  long operations() {
+    return operations.get();
+  }
+
+  long rejected() {
+    return rejected.get();
+  }
+}
@@ -0,0 +1,118 @@
+package com.graph.graphservice.websocket;
+
+import graphql.ErrorClassification;
+import graphql.ExecutionResult;
+import graphql.GraphqlErrorBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.WebSocketGraphQlInterceptor;
+import org.springframework.graphql.server.WebSocketGraphQlRequest;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flow control for the graphql-transport-ws endpoint, where internal clients multiplex many queries over
+ * one connection. The connection's window ({@code maxInFlight}) is sent in the {@code connection_ack}
+ * payload; an operation beyond it gets a {@code FLOW_CONTROL} error marked retryable instead of being
+ * queued. Accepted operations go through the same interceptors and resolvers as the HTTP endpoint,
+ * including admission control, which is why this runs first. HTTP requests pass through untouched.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WebSocketFlowControlInterceptor implements WebSocketGraphQlInterceptor {
+  private static final String CONNECTION_ATTRIBUTE = WebSocketConnection.class.getName();
+
+  private final WebSocketProperties properties;
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter accepted;
+  private final Counter rejected;
+  private final DistributionSummary operationsPerConnection;
+
+  enum WebSocketErrorType implements ErrorClassification {
+    FLOW_CONTROL
+  }
+
+  public WebSocketFlowControlInterceptor(WebSocketProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    Gauge.builder("graph.ws.connections", connections, AtomicInteger::get)
+        .description("Open GraphQL WebSocket connections")
+        .register(meterRegistry);
+    Gauge.builder("graph.ws.operations.in-flight", inFlight, AtomicInteger::get)
+        .description("GraphQL WebSocket operations queued or executing")
+        .register(meterRegistry);
+    this.accepted = Counter.builder("graph.ws.operations").tag("outcome", "accepted").register(meterRegistry);
+    this.rejected = Counter.builder("graph.ws.operations").tag("outcome", "rejected").register(meterRegistry);
+    this.operationsPerConnection = DistributionSummary.builder("graph.ws.connection.operations")
+        .description("Operations accepted over one GraphQL WebSocket connection")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo sessionInfo,
+                                                     Map<String, Object> connectionInitPayload) {
+    WebSocketConnection connection = new WebSocketConnection(properties);
+    sessionInfo.getAttributes().put(CONNECTION_ATTRIBUTE, connection);
+    connections.incrementAndGet();
+    return Mono.just(Map.of("maxInFlight", connection.maxInFlight()));
+  }
+
+  @Override
+  public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+    if (!(request instanceof WebSocketGraphQlRequest webSocketRequest)
+        || !(webSocketRequest.getSessionInfo().getAttributes().get(CONNECTION_ATTRIBUTE)
+        instanceof WebSocketConnection connection)) {
+      return chain.next(request);
+    }
+
+    if (!connection.tryAcquire()) {
+      rejected.increment();
+      return Mono.just(rejected(request, connection));
+    }
+    accepted.increment();
+    inFlight.incrementAndGet();
+    // Subscription'larda slot akış kurulunca bırakılır, akışın kendisi pencereye sayılmaz
+    return connection.submit(Mono.defer(() -> chain.next(request)), inFlight::decrementAndGet);
+  }
+
+  @Override
+  public void handleConnectionClosed(WebSocketSessionInfo sessionInfo, int statusCode,
+                                     Map<String, Object> connectionInitPayload) {
+    if (!(sessionInfo.getAttributes().remove(CONNECTION_ATTRIBUTE) instanceof WebSocketConnection connection)) {
+      return;
+    }
+    connection.close();
+    connections.decrementAndGet();
+    operationsPerConnection.record(connection.operations());
+    log.debug("GraphQL WebSocket {} closed with {}: {} operations, {} rejected",
+        sessionInfo.getId(), statusCode, connection.operations(), connection.rejected());
+  }
+
+  private WebGraphQlResponse rejected(WebGraphQlRequest request, WebSocketConnection connection) {
+    ExecutionResult result = ExecutionResult.newExecutionResult()
+        .data(null)
+        .addError(GraphqlErrorBuilder.newError()
+            .errorType(WebSocketErrorType.FLOW_CONTROL)
+            .message("Connection has " + connection.maxInFlight() + " operations in flight, retry later")
+            .extensions(Map.of("retryable", true))
+            .build())
+        .build();
+    return new WebGraphQlResponse(new DefaultExecutionGraphQlResponse(request.toExecutionInput(), result));
+  }
+}
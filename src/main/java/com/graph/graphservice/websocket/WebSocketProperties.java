@@ -0,0 +1,17 @@
+package com.graph.graphservice.websocket;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxInFlight operations one connection may have open at once; announced in {@code connection_ack},
+ *                    operations over it are rejected as retryable
+ * @param parallelism operations of one connection executing at once, the rest wait in the connection's
+ *                    queue; more than the connection pool size only adds threads waiting for a connection
+ */
+@ConfigurationProperties(prefix = "graph.websocket")
+public record WebSocketProperties(
+    @DefaultValue("32") int maxInFlight,
+    @DefaultValue("2") int parallelism
+) {
+}
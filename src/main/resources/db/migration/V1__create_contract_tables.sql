@@ -0,0 +1,63 @@
+-- Contract aggregate tables as mapped by the JPA entities.
+-- IF NOT EXISTS keeps this a no-op on databases that were created by ddl-auto=update before
+-- migrations took over (see spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS contract
+(
+    id              uuid         NOT NULL,
+    contract_name   varchar(255),
+    contract_no     varchar(255),
+    renewal_no      integer,
+    endorsement_no  integer,
+    contract_status varchar(255),
+    CONSTRAINT contract_pkey PRIMARY KEY (id),
+    CONSTRAINT contract_contract_status_check CHECK (contract_status IN ('FINALIZED', 'DRAFT'))
+);
+
+CREATE TABLE IF NOT EXISTS contract_detail
+(
+    id          uuid NOT NULL,
+    contract_id uuid NOT NULL,
+    start_date  timestamp(6),
+    end_date    timestamp(6),
+    CONSTRAINT contract_detail_pkey PRIMARY KEY (id),
+    -- one-to-one: the unique constraint also serves as the contract_id lookup index
+    CONSTRAINT contract_detail_contract_id_key UNIQUE (contract_id),
+    CONSTRAINT contract_detail_contract_fk FOREIGN KEY (contract_id) REFERENCES contract (id)
+);
+
+CREATE TABLE IF NOT EXISTS contract_branch
+(
+    id             uuid NOT NULL,
+    contract_id    uuid NOT NULL,
+    branch_enum    varchar(255),
+    premium_amount numeric(38, 2),
+    CONSTRAINT contract_branch_pkey PRIMARY KEY (id),
+    CONSTRAINT contract_branch_branch_enum_check CHECK (branch_enum IN ('EARTHQUAKE', 'FIRE', 'CARGO')),
+    CONSTRAINT contract_branch_contract_fk FOREIGN KEY (contract_id) REFERENCES contract (id)
+);
+
+CREATE TABLE IF NOT EXISTS layer
+(
+    id                   uuid    NOT NULL,
+    contract_id          uuid    NOT NULL,
+    layer_order          integer NOT NULL,
+    loss_limit_amount    numeric(38, 2),
+    loss_limit_amount_rc numeric(38, 2),
+    deductible_amount    numeric(38, 2),
+    deductible_amount_rc numeric(38, 2),
+    CONSTRAINT layer_pkey PRIMARY KEY (id),
+    CONSTRAINT layer_contract_fk FOREIGN KEY (contract_id) REFERENCES contract (id)
+);
+
+CREATE TABLE IF NOT EXISTS reinstatement
+(
+    id                  uuid    NOT NULL,
+    layer_id            uuid    NOT NULL,
+    contract_id         uuid    NOT NULL,
+    reinstatement_order integer NOT NULL,
+    reinstatement_ratio numeric(38, 2),
+    CONSTRAINT reinstatement_pkey PRIMARY KEY (id),
+    CONSTRAINT reinstatement_layer_fk FOREIGN KEY (layer_id) REFERENCES layer (id),
+    CONSTRAINT reinstatement_contract_fk FOREIGN KEY (contract_id) REFERENCES contract (id)
+);
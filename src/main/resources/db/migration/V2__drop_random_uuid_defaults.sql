@@ -0,0 +1,18 @@
+-- ddl-auto created every id column, and the foreign key columns copied from them, with
+-- DEFAULT gen_random_uuid(). Ids are assigned by the application (UUIDv7), so a silently generated
+-- random id, or worse a random foreign key, only hides bugs. No-op on databases created by V1.
+
+ALTER TABLE contract ALTER COLUMN id DROP DEFAULT;
+
+ALTER TABLE contract_detail ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE contract_detail ALTER COLUMN contract_id DROP DEFAULT;
+
+ALTER TABLE contract_branch ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE contract_branch ALTER COLUMN contract_id DROP DEFAULT;
+
+ALTER TABLE layer ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE layer ALTER COLUMN contract_id DROP DEFAULT;
+
+ALTER TABLE reinstatement ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE reinstatement ALTER COLUMN layer_id DROP DEFAULT;
+ALTER TABLE reinstatement ALTER COLUMN contract_id DROP DEFAULT;
@@ -0,0 +1,11 @@
+-- PostgreSQL does not index foreign key columns on its own. Every join and lazy collection load
+-- (contract -> layers, layer -> reinstatements, contract -> coverages) filters on these columns.
+-- contract_detail.contract_id is already covered by its unique constraint.
+
+CREATE INDEX IF NOT EXISTS layer_contract_id_idx ON layer (contract_id);
+
+CREATE INDEX IF NOT EXISTS reinstatement_layer_id_idx ON reinstatement (layer_id);
+
+CREATE INDEX IF NOT EXISTS reinstatement_contract_id_idx ON reinstatement (contract_id);
+
+CREATE INDEX IF NOT EXISTS contract_branch_contract_id_idx ON contract_branch (contract_id);
@@ -0,0 +1,11 @@
+-- Indexes behind searchContracts. Results are ordered by id, so status carries id as well and a
+-- status filter with a limit reads the index in order and stops early.
+CREATE INDEX IF NOT EXISTS contract_status_id_idx ON contract (contract_status, id);
+
+-- Range predicates on either date; each bound uses its own btree.
+CREATE INDEX IF NOT EXISTS contract_detail_start_date_idx ON contract_detail (start_date);
+CREATE INDEX IF NOT EXISTS contract_detail_end_date_idx ON contract_detail (end_date);
+
+-- EXISTS on coverage branch: lets the planner build the matching contract ids from the index alone
+-- (semi join) instead of probing every contract's coverages.
+CREATE INDEX IF NOT EXISTS contract_branch_branch_enum_contract_id_idx ON contract_branch (branch_enum, contract_id);
@@ -0,0 +1,20 @@
+-- Denormalized read model for contract list screens, one row per contract. Kept current by
+-- ContractRepository on every save; contractSummaries reads only from this table.
+CREATE TABLE IF NOT EXISTS contract_summary
+(
+    contract_id     uuid           NOT NULL,
+    contract_no     varchar(255),
+    contract_name   varchar(255),
+    contract_status varchar(255),
+    branches        varchar(255)[] NOT NULL,
+    start_date      timestamp(6),
+    end_date        timestamp(6),
+    total_premium   numeric(38, 2) NOT NULL,
+    layer_count     integer        NOT NULL,
+    CONSTRAINT contract_summary_pkey PRIMARY KEY (contract_id),
+    -- bulk deletes of contracts take their summary with them
+    CONSTRAINT contract_summary_contract_fk FOREIGN KEY (contract_id) REFERENCES contract (id) ON DELETE CASCADE
+);
+
+-- Keyset pages ordered by contract_id, optionally per status
+CREATE INDEX IF NOT EXISTS contract_summary_status_id_idx ON contract_summary (contract_status, contract_id);
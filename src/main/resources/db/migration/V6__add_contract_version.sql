@@ -0,0 +1,3 @@
+-- Optimistic lock version of the whole contract aggregate; bumped whenever the contract or any
+-- of its children changes. Clients use it as the ETag of conditional reads.
+ALTER TABLE contract ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
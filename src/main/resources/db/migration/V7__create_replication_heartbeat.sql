@@ -0,0 +1,9 @@
+-- Written on the primary by ReplicaLagMonitor and read back on the replicas to measure replication lag,
+-- one row per application instance. Only used with graph.routing.enabled.
+CREATE TABLE IF NOT EXISTS replication_heartbeat
+(
+    instance_id uuid        NOT NULL,
+    seq         bigint      NOT NULL,
+    beat_at     timestamptz NOT NULL,
+    CONSTRAINT replication_heartbeat_pkey PRIMARY KEY (instance_id)
+);
@@ -0,0 +1,45 @@
+-- Publishes every change to a contract aggregate on the contract_changed channel, as
+-- '<contract id>:<contract version>:<table>' (version empty once the contract is deleted). The triggers
+-- are statement level with transition tables, so COPY and bulk statements cost one notification per
+-- contract, and PostgreSQL delivers identical notifications of a transaction once, after commit.
+-- ContractChangeListener LISTENs on every instance.
+CREATE OR REPLACE FUNCTION notify_contract_changed() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    -- TG_ARGV[0]: contract'ın anahtarı, contract tablosunda id, çocuk tablolarda contract_id.
+    -- Yazan oturumun search_path'i bilinmediği için contract tablosu şema ile nitelenir
+    EXECUTE format('SELECT pg_notify(''contract_changed'', changed.id || '':'' || coalesce(c.version::text, '''') || '':'' || %L)
+                    FROM (SELECT DISTINCT %I AS id FROM %I) changed
+                    LEFT JOIN %I.contract c ON c.id = changed.id',
+                   TG_TABLE_NAME, TG_ARGV[0], CASE TG_OP WHEN 'DELETE' THEN 'old_rows' ELSE 'new_rows' END,
+                   TG_TABLE_SCHEMA);
+    RETURN NULL;
+END
+$$;
+
+-- Bir trigger'da transition table ile tek olay tanımlanabiliyor
+DO
+$$
+DECLARE
+    target record;
+BEGIN
+    FOR target IN SELECT *
+                  FROM (VALUES ('contract', 'id'),
+                               ('contract_detail', 'contract_id'),
+                               ('contract_branch', 'contract_id'),
+                               ('layer', 'contract_id'),
+                               ('reinstatement', 'contract_id')) AS t (table_name, key_column)
+        LOOP
+            EXECUTE format('CREATE OR REPLACE TRIGGER %I AFTER INSERT ON %I REFERENCING NEW TABLE AS new_rows
+                            FOR EACH STATEMENT EXECUTE FUNCTION notify_contract_changed(%L)',
+                           target.table_name || '_changed_insert', target.table_name, target.key_column);
+            EXECUTE format('CREATE OR REPLACE TRIGGER %I AFTER UPDATE ON %I REFERENCING NEW TABLE AS new_rows
+                            FOR EACH STATEMENT EXECUTE FUNCTION notify_contract_changed(%L)',
+                           target.table_name || '_changed_update', target.table_name, target.key_column);
+            EXECUTE format('CREATE OR REPLACE TRIGGER %I AFTER DELETE ON %I REFERENCING OLD TABLE AS old_rows
+                            FOR EACH STATEMENT EXECUTE FUNCTION notify_contract_changed(%L)',
+                           target.table_name || '_changed_delete', target.table_name, target.key_column);
+        END LOOP;
+END
+$$;